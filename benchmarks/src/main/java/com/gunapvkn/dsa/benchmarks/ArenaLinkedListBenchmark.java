@@ -0,0 +1,90 @@
+package com.gunapvkn.dsa.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.gunapvkn.dsa.linkedlist.coreoperations.ArenaLinkedList;
+import com.gunapvkn.dsa.linkedlist.coreoperations.SinglyLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link ArenaLinkedList} against {@link SinglyLinkedList}, both holding {@code size} values. Every benchmark
+ * pairs an insert with the matching delete so the length stays constant. The arena recycles the freed slot
+ * on the next insert, so its benchmarks should show 0 B/op under {@code -prof gc}. {@code traverse} sums the
+ * whole list to compare walking index links in arrays against chasing {@code Node} references.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class ArenaLinkedListBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    int size;
+
+    ArenaLinkedList arena;
+    SinglyLinkedList list;
+    int middle;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        arena = new ArenaLinkedList(size + 1);
+        list = new SinglyLinkedList();
+        for (var i = 0; i < size; i++) {
+            var handle = arena.insertAtLast(i);
+            if (i == size / 2) {
+                middle = handle;
+            }
+            list.insertAtLast(i);
+        }
+    }
+
+    @Benchmark
+    public int arenaInsertDeleteAtLast() {
+        arena.insertAtLast(42);
+        arena.deleteAtLast();
+        return arena.size();
+    }
+
+    @Benchmark
+    public int listInsertDeleteAtLast() {
+        list.insertAtLast(42);
+        list.deleteAtLast();
+        return list.size();
+    }
+
+    @Benchmark
+    public int arenaInsertRemoveByHandle() {
+        return arena.remove(arena.insertAfter(middle, 42));
+    }
+
+    @Benchmark
+    public long arenaTraverse() {
+        var sum = 0L;
+        for (var values = arena.iterator(); values.hasNext(); ) {
+            sum += values.nextInt();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long listTraverse() {
+        var sum = 0L;
+        for (var values = list.iterator(); values.hasNext(); ) {
+            sum += values.nextInt();
+        }
+        return sum;
+    }
+}
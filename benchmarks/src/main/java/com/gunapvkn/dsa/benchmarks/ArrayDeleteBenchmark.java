@@ -0,0 +1,78 @@
+package com.gunapvkn.dsa.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import com.gunapvkn.dsa.arrays.coreoperations.ArrayDelete;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link ArrayDelete} operations on an array of {@code size + BATCH} distinct values.
+ *
+ * <p>Every iteration starts from a fresh copy of the source array and performs exactly {@link #BATCH}
+ * deletions, so the array never runs empty and the reported score is the time for the whole batch.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, batchSize = ArrayDeleteBenchmark.BATCH)
+@Measurement(iterations = 20, batchSize = ArrayDeleteBenchmark.BATCH)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class ArrayDeleteBenchmark {
+
+    /** Number of deletions per measured batch. */
+    static final int BATCH = 1000;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    int size;
+
+    @Param({"false", "true"})
+    boolean gapBuffer;
+
+    int[] source;
+    ArrayDelete array;
+    int nextValue;
+
+    @Setup(Level.Trial)
+    public void createSource() {
+        source = IntStream.range(0, size + BATCH).toArray();
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        array = new ArrayDelete(source.clone(), gapBuffer);
+        // Values equal their index, so deleting value v moves v + 1 into the same slot for the next call.
+        nextValue = size / 2;
+    }
+
+    @Benchmark
+    public int deleteAtEnd() {
+        return array.deleteAtEnd();
+    }
+
+    @Benchmark
+    public int deleteAtBeginning() {
+        return array.deleteAtBeginning();
+    }
+
+    @Benchmark
+    public int deleteAtMiddleIndex() {
+        return array.deleteAtIndex(size / 2);
+    }
+
+    @Benchmark
+    public int deleteByValue() {
+        return array.deleteByValue(nextValue++);
+    }
+}
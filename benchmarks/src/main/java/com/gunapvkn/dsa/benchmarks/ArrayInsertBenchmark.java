@@ -0,0 +1,85 @@
+package com.gunapvkn.dsa.benchmarks;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.gunapvkn.dsa.arrays.coreoperations.ArrayInsert;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link ArrayInsert} operations on an array that already holds {@code size} elements.
+ *
+ * <p>Inserts grow the array, so they run as single-shot batches: every iteration starts from a freshly
+ * filled array with room for exactly {@link #BATCH} more elements, and the reported score is the time
+ * for the whole batch. {@code updateValue} does not change the size and is measured continuously.
+ */
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class ArrayInsertBenchmark {
+
+    /** Number of inserts per measured batch. */
+    static final int BATCH = 1000;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    int size;
+
+    @Param({"false", "true"})
+    boolean gapBuffer;
+
+    ArrayInsert array;
+    int[] updateIndices;
+    int cursor;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        array = new ArrayInsert(size + BATCH, gapBuffer);
+        for (var i = 0; i < size; i++) {
+            array.insertAtEnd(i);
+        }
+        updateIndices = ThreadLocalRandom.current().ints(1024, 0, size).toArray();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 5, batchSize = BATCH)
+    @Measurement(iterations = 20, batchSize = BATCH)
+    public int insertAtEnd() {
+        return array.insertAtEnd(42);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 5, batchSize = BATCH)
+    @Measurement(iterations = 20, batchSize = BATCH)
+    public int insertAtBeginning() {
+        return array.insertAtBeginning(42);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 5, batchSize = BATCH)
+    @Measurement(iterations = 20, batchSize = BATCH)
+    public int insertAtMiddleIndex() {
+        return array.insertAtIndex(size / 2, 42);
+    }
+
+    @Benchmark
+    @BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    public boolean updateValue() {
+        return array.updateValue(updateIndices[cursor++ & 1023], 42);
+    }
+}
@@ -0,0 +1,70 @@
+package com.gunapvkn.dsa.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.gunapvkn.dsa.queue.coreoperations.ArrayQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link ArrayQueue} at a steady occupancy of {@code size} elements, in bounded and growable mode.
+ *
+ * <p>{@code enqueDeque} performs one enque followed by one deque so the queue size stays constant
+ * across invocations; the score therefore covers both operations.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class ArrayQueueBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    int size;
+
+    @Param({"false", "true"})
+    boolean growable;
+
+    ArrayQueue queue;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        // Bounded queues get exactly one spare slot; growable ones start small and double to fit.
+        queue = growable ? new ArrayQueue(16, true, false) : new ArrayQueue(size + 1);
+        for (var i = 0; i < size; i++) {
+            queue.enque(i);
+        }
+    }
+
+    @Benchmark
+    public int enqueDeque() {
+        queue.enque(42);
+        return queue.deque();
+    }
+
+    @Benchmark
+    public int getFront() {
+        return queue.getFront();
+    }
+
+    @Benchmark
+    public int size() {
+        return queue.size();
+    }
+
+    @Benchmark
+    public boolean isFull() {
+        return queue.isFull();
+    }
+}
@@ -0,0 +1,84 @@
+package com.gunapvkn.dsa.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import com.gunapvkn.dsa.arrays.coreoperations.ArrayDelete;
+import com.gunapvkn.dsa.arrays.coreoperations.ArrayInsert;
+import com.gunapvkn.dsa.arrays.coreoperations.EytzingerIntArray;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Read-only searches over {@code size} distinct values: linear {@link ArrayDelete} scans that cover the whole
+ * array, and membership probes against the same values in a sorted {@link ArrayInsert} (binary search) and its
+ * frozen {@link EytzingerIntArray} view. The probes cycle through a fixed random sequence, half of them hits.
+ *
+ * <p>The fork runs with the Vector API module, so the SIMD kernels are measured. Append
+ * {@code -jvmArgsAppend -Ddsa.vector.disable=true} (which replaces the flags below) to measure the scalar fallback.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g", "--add-modules=jdk.incubator.vector"})
+@State(Scope.Thread)
+public class ArraySearchBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    int size;
+
+    /** Length of the probe sequence (a power of two). */
+    static final int PROBES = 1 << 16;
+
+    ArrayDelete array;
+    ArrayInsert sorted;
+    EytzingerIntArray frozen;
+    int[] probes;
+    int nextProbe;
+
+    @Setup
+    public void setUp() {
+        array = new ArrayDelete(IntStream.range(0, size).toArray());
+        // Even values only, probed over [0, 2 * size) so about half the probes hit.
+        sorted = ArrayInsert.sorted(size);
+        sorted.bulkMerge(IntStream.range(0, size).map(i -> 2 * i).toArray());
+        frozen = sorted.freeze();
+        probes = new Random(42).ints(PROBES, 0, 2 * size).toArray();
+    }
+
+    @Benchmark
+    public int indexOfAbsent() {
+        return array.indexOf(-1);
+    }
+
+    @Benchmark
+    public int indexOfLast() {
+        return array.indexOf(size - 1);
+    }
+
+    @Benchmark
+    public int countOf() {
+        return array.countOf(size / 2);
+    }
+
+    @Benchmark
+    public boolean sortedContains() {
+        return sorted.contains(probes[nextProbe++ & (PROBES - 1)]);
+    }
+
+    @Benchmark
+    public boolean eytzingerContains() {
+        return frozen.contains(probes[nextProbe++ & (PROBES - 1)]);
+    }
+}
@@ -0,0 +1,80 @@
+package com.gunapvkn.dsa.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.gunapvkn.dsa.stack.coreoperations.ArrayStack;
+import com.gunapvkn.dsa.stack.coreoperations.OffHeapIntStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link ArrayStack} holding {@code size} elements with one spare slot, and an {@link OffHeapIntStack}
+ * of the same depth; {@code pushPop} keeps the depth constant across invocations.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class ArrayStackBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    int size;
+
+    ArrayStack stack;
+    OffHeapIntStack offHeap;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        stack = new ArrayStack(size + 1);
+        offHeap = new OffHeapIntStack();
+        for (var i = 0; i < size; i++) {
+            stack.push(i);
+            offHeap.push(i);
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        offHeap.close();
+    }
+
+    @Benchmark
+    public int pushPop() {
+        stack.push(42);
+        return stack.pop();
+    }
+
+    @Benchmark
+    public int offHeapPushPop() {
+        offHeap.push(42);
+        return offHeap.pop();
+    }
+
+    @Benchmark
+    public int offHeapPeek() {
+        return offHeap.peek();
+    }
+
+    @Benchmark
+    public int peek() {
+        return stack.peek();
+    }
+
+    @Benchmark
+    public int size() {
+        return stack.size();
+    }
+}
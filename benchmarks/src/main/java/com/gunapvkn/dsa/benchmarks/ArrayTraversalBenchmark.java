@@ -0,0 +1,74 @@
+package com.gunapvkn.dsa.benchmarks;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * The five traversal styles shown in {@code ArrayCreationAndTraversal}, each visiting every element
+ * of an {@code int[]} once. Elements go to a {@link Blackhole} instead of {@code System.out}.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class ArrayTraversalBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    int size;
+
+    int[] arr;
+
+    @Setup
+    public void setUp() {
+        arr = IntStream.range(0, size).toArray();
+    }
+
+    @Benchmark
+    public void forLoopWithIndex(Blackhole bh) {
+        for (var i = 0; i < arr.length; i++) {
+            bh.consume(arr[i]);
+        }
+    }
+
+    @Benchmark
+    public void enhancedForEach(Blackhole bh) {
+        for (var num : arr) {
+            bh.consume(num);
+        }
+    }
+
+    @Benchmark
+    public void whileLoop(Blackhole bh) {
+        var i = 0;
+        while (i < arr.length) {
+            bh.consume(arr[i]);
+            i++;
+        }
+    }
+
+    @Benchmark
+    public void arraysStream(Blackhole bh) {
+        Arrays.stream(arr).forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void intStreamRange(Blackhole bh) {
+        IntStream.range(0, arr.length).forEach(index -> bh.consume(arr[index]));
+    }
+}
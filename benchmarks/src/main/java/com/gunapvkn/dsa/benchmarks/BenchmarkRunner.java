@@ -0,0 +1,30 @@
+package com.gunapvkn.dsa.benchmarks;
+
+import java.util.Arrays;
+
+import org.openjdk.jmh.Main;
+
+/**
+ * Entry point of the benchmark jar.
+ *
+ * <p>Accepts the regular JMH command line (benchmark regex, {@code -p size=...}, {@code -bm}, {@code -l}, ...)
+ * and attaches the GC profiler unless another profiler was requested with {@code -prof}, so every run also
+ * reports allocation rate ({@code gc.alloc.rate.norm} = bytes allocated per operation).
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (Arrays.asList(args).contains("-prof")) {
+            Main.main(args);
+            return;
+        }
+        var withGc = new String[args.length + 2];
+        withGc[0] = "-prof";
+        withGc[1] = "gc";
+        System.arraycopy(args, 0, withGc, 2, args.length);
+        Main.main(withGc);
+    }
+}
@@ -0,0 +1,63 @@
+package com.gunapvkn.dsa.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.gunapvkn.dsa.arrays.coreoperations.BigIntArray;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link BigIntArray} holding {@code size} values in default-sized segments. Every shifting benchmark pairs an
+ * insert with the matching delete so the size stays constant; their cost is about one arraycopy per segment
+ * of the shifted tail. {@code get} measures the segment/offset split on random access.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class BigIntArrayBenchmark {
+
+    @Param({"1000", "1000000", "100000000"})
+    long size;
+
+    BigIntArray array;
+    long cursor;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        array = new BigIntArray(size + 1);
+        for (var i = 0L; i < size; i++) {
+            array.insertAtEnd((int) i);
+        }
+    }
+
+    @Benchmark
+    public long insertDeleteAtMiddle() {
+        array.insertAtIndex(size / 2, 42);
+        return array.deleteAtIndex(size / 2);
+    }
+
+    @Benchmark
+    public long insertDeleteAtEnd() {
+        array.insertAtEnd(42);
+        return array.deleteAtEnd();
+    }
+
+    @Benchmark
+    public int get() {
+        cursor = (cursor + 0x9E3779B97L) % size;
+        return array.get(cursor);
+    }
+}
@@ -0,0 +1,73 @@
+package com.gunapvkn.dsa.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.gunapvkn.dsa.queue.coreoperations.MpmcArrayQueue;
+import com.gunapvkn.dsa.queue.coreoperations.SpscArrayQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Producer/consumer throughput of the lock-free queues. Each group shares one queue of capacity
+ * {@code size}; {@code offer}/{@code poll} failures are counted as operations too, so compare the
+ * per-thread scores rather than the group total when the queue runs full or empty.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Group)
+public class ConcurrentQueueBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    int size;
+
+    SpscArrayQueue spsc;
+    MpmcArrayQueue mpmc;
+
+    @Setup
+    public void setUp() {
+        spsc = new SpscArrayQueue(size);
+        mpmc = new MpmcArrayQueue(size);
+    }
+
+    @Benchmark
+    @Group("spsc")
+    @GroupThreads(1)
+    public boolean spscOffer() {
+        return spsc.offer(42);
+    }
+
+    @Benchmark
+    @Group("spsc")
+    @GroupThreads(1)
+    public int spscPoll() {
+        return spsc.poll(-1);
+    }
+
+    @Benchmark
+    @Group("mpmc")
+    @GroupThreads(2)
+    public boolean mpmcOffer() {
+        return mpmc.offer(42);
+    }
+
+    @Benchmark
+    @Group("mpmc")
+    @GroupThreads(2)
+    public int mpmcPoll() {
+        return mpmc.poll(-1);
+    }
+}
@@ -0,0 +1,93 @@
+package com.gunapvkn.dsa.benchmarks;
+
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.gunapvkn.dsa.linkedlist.coreoperations.ConcurrentSortedLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link ConcurrentSortedLinkedList} shared by several threads, against a {@code TreeSet} behind one lock and a
+ * {@code ConcurrentSkipListSet}. Keys are drawn from [0, 2 * size), so the sets hold about {@code size} values,
+ * and each operation is a contains, add or remove chosen by {@code updatePercent}. Run with {@code -t} to
+ * change the thread count.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@Threads(4)
+@State(Scope.Benchmark)
+public class ConcurrentSortedLinkedListBenchmark {
+
+    @Param({"64", "1024"})
+    int size;
+
+    @Param({"10", "50"})
+    int updatePercent;
+
+    ConcurrentSortedLinkedList list;
+    TreeSet<Integer> locked;
+    ConcurrentSkipListSet<Integer> skipList;
+
+    @Setup
+    public void setUp() {
+        list = new ConcurrentSortedLinkedList();
+        locked = new TreeSet<>();
+        skipList = new ConcurrentSkipListSet<>();
+        for (var i = 0; i < 2 * size; i += 2) {
+            list.add(i);
+            locked.add(i);
+            skipList.add(i);
+        }
+    }
+
+    @Benchmark
+    public boolean lockFreeList() {
+        var random = ThreadLocalRandom.current();
+        var key = random.nextInt(2 * size);
+        var choice = random.nextInt(200);
+        if (choice >= 2 * updatePercent) {
+            return list.contains(key);
+        }
+        return (choice & 1) == 0 ? list.add(key) : list.remove(key);
+    }
+
+    @Benchmark
+    public boolean lockedTreeSet() {
+        var random = ThreadLocalRandom.current();
+        var key = random.nextInt(2 * size);
+        var choice = random.nextInt(200);
+        synchronized (locked) {
+            if (choice >= 2 * updatePercent) {
+                return locked.contains(key);
+            }
+            return (choice & 1) == 0 ? locked.add(key) : locked.remove(key);
+        }
+    }
+
+    @Benchmark
+    public boolean concurrentSkipListSet() {
+        var random = ThreadLocalRandom.current();
+        var key = random.nextInt(2 * size);
+        var choice = random.nextInt(200);
+        if (choice >= 2 * updatePercent) {
+            return skipList.contains(key);
+        }
+        return (choice & 1) == 0 ? skipList.add(key) : skipList.remove(key);
+    }
+}
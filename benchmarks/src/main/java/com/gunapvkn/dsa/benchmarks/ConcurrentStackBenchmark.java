@@ -0,0 +1,59 @@
+package com.gunapvkn.dsa.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.gunapvkn.dsa.stack.coreoperations.TreiberStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link TreiberStack} shared by several threads, each doing push/pop pairs on a stack that starts
+ * with {@code size} elements. Run with {@code -t} to change the thread count and compare the
+ * elimination array on and off ({@code eliminationSlots=1} makes elimination rare).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@Threads(4)
+@State(Scope.Benchmark)
+public class ConcurrentStackBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    int size;
+
+    @Param({"1", "16"})
+    int eliminationSlots;
+
+    TreiberStack stack;
+
+    @Setup
+    public void setUp() {
+        stack = new TreiberStack(eliminationSlots);
+        for (var i = 0; i < size; i++) {
+            stack.push(i);
+        }
+    }
+
+    @Benchmark
+    public int pushPop() {
+        stack.push(42);
+        return stack.pop();
+    }
+
+    @Benchmark
+    public int peek() {
+        return stack.peek();
+    }
+}
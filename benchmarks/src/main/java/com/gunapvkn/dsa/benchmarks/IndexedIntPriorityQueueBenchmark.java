@@ -0,0 +1,79 @@
+package com.gunapvkn.dsa.benchmarks;
+
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.gunapvkn.dsa.queue.coreoperations.IndexedIntPriorityQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link IndexedIntPriorityQueue} at several arities against {@code PriorityQueue<Integer>}, using the classic
+ * "hold" model of event simulation: poll the minimum and put it back with a later, random key, so the queue keeps
+ * {@code size} entries. The {@code decreaseKey} benchmark models Dijkstra relaxing an edge to a queued vertex,
+ * which {@code PriorityQueue} can only do as an O(n) remove followed by an add.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Thread)
+public class IndexedIntPriorityQueueBenchmark {
+
+    @Param({"1000", "1000000"})
+    int size;
+
+    @Param({"2", "4", "8"})
+    int arity;
+
+    IndexedIntPriorityQueue queue;
+    PriorityQueue<Integer> boxed;
+    SplittableRandom random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        random = new SplittableRandom(42);
+        var keys = new int[size];
+        boxed = new PriorityQueue<>(size);
+        for (var i = 0; i < size; i++) {
+            keys[i] = random.nextInt(size);
+            boxed.add(keys[i]);
+        }
+        queue = new IndexedIntPriorityQueue(keys, arity);
+    }
+
+    @Benchmark
+    public int indexedHold() {
+        var key = queue.peekKey();
+        var handle = queue.pollHandle();
+        queue.offer(handle, key + random.nextInt(size));
+        return handle;
+    }
+
+    @Benchmark
+    public int indexedDecreaseKey() {
+        var handle = random.nextInt(size);
+        var key = queue.keyOf(handle);
+        queue.decreaseKey(handle, key - random.nextInt(16));
+        return key;
+    }
+
+    @Benchmark
+    public int boxedHold() {
+        int key = boxed.poll();
+        boxed.add(key + random.nextInt(size));
+        return key;
+    }
+}
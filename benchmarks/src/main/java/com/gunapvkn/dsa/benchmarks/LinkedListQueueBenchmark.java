@@ -0,0 +1,79 @@
+package com.gunapvkn.dsa.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.gunapvkn.dsa.queue.coreoperations.LinkedListQueue;
+import com.gunapvkn.dsa.queue.coreoperations.UnrolledLinkedListQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link LinkedListQueue} and {@link UnrolledLinkedListQueue} at a steady occupancy of {@code size} elements.
+ * {@code enqueDeque} keeps the size constant, so its allocation rate is the per-element cost of each layout;
+ * {@code pooledEnqueDeque} uses a queue with a node pool and should report close to zero bytes per operation.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class LinkedListQueueBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    int size;
+
+    LinkedListQueue queue;
+    LinkedListQueue pooled;
+    UnrolledLinkedListQueue unrolled;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        queue = new LinkedListQueue();
+        pooled = new LinkedListQueue(64, false);
+        unrolled = new UnrolledLinkedListQueue();
+        for (var i = 0; i < size; i++) {
+            queue.enque(i);
+            pooled.enque(i);
+            unrolled.enque(i);
+        }
+    }
+
+    @Benchmark
+    public int enqueDeque() {
+        queue.enque(42);
+        return queue.deque();
+    }
+
+    @Benchmark
+    public int pooledEnqueDeque() {
+        pooled.enque(42);
+        return pooled.deque();
+    }
+
+    @Benchmark
+    public int unrolledEnqueDeque() {
+        unrolled.enque(42);
+        return unrolled.deque();
+    }
+
+    @Benchmark
+    public int getFront() {
+        return queue.getFront();
+    }
+
+    @Benchmark
+    public int size() {
+        return queue.size();
+    }
+}
@@ -0,0 +1,73 @@
+package com.gunapvkn.dsa.benchmarks;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+
+import com.gunapvkn.dsa.queue.coreoperations.LongArrayQueue;
+import com.gunapvkn.dsa.queue.coreoperations.LongLinkedListQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The generated {@link LongArrayQueue} and pooled {@link LongLinkedListQueue} against {@code ArrayDeque<Long>}
+ * at a steady occupancy of {@code size} elements. The values are timestamp-like and outside the {@code Long}
+ * cache, so every boxed enque allocates; run with {@code -prof gc} to compare bytes per operation.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class LongQueueBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    int size;
+
+    LongArrayQueue queue;
+    LongLinkedListQueue pooled;
+    ArrayDeque<Long> boxed;
+    long next;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        next = System.nanoTime();
+        queue = new LongArrayQueue(16, true, false);
+        pooled = new LongLinkedListQueue(1024, false);
+        boxed = new ArrayDeque<>();
+        for (var i = 0; i < size; i++) {
+            queue.enque(next);
+            pooled.enque(next);
+            boxed.addLast(next);
+            next++;
+        }
+    }
+
+    @Benchmark
+    public long arrayQueue() {
+        queue.enque(next++);
+        return queue.deque();
+    }
+
+    @Benchmark
+    public long pooledLinkedQueue() {
+        pooled.enque(next++);
+        return pooled.deque();
+    }
+
+    @Benchmark
+    public long boxedArrayDeque() {
+        boxed.addLast(next++);
+        return boxed.pollFirst();
+    }
+}
@@ -0,0 +1,74 @@
+package com.gunapvkn.dsa.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import com.gunapvkn.dsa.queue.coreoperations.MappedJournalQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link MappedJournalQueue} at a steady occupancy of {@code size} elements in a fresh temporary directory.
+ *
+ * <p>{@code enqueDeque} performs one enque followed by one deque, so the score covers both operations
+ * plus the periodic segment rollover and delete. Nothing is forced to disk inside the measurement.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class MappedJournalQueueBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    int size;
+
+    Path directory;
+    MappedJournalQueue queue;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("journal-bench");
+        queue = new MappedJournalQueue(directory);
+        for (var i = 0; i < size; i++) {
+            queue.enque(i);
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException {
+        queue.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (var path : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public int enqueDeque() {
+        queue.enque(42);
+        return queue.deque();
+    }
+
+    @Benchmark
+    public int getFront() {
+        return queue.getFront();
+    }
+}
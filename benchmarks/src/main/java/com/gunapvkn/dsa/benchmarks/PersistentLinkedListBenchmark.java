@@ -0,0 +1,74 @@
+package com.gunapvkn.dsa.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.gunapvkn.dsa.linkedlist.coreoperations.PersistentLinkedList;
+import com.gunapvkn.dsa.linkedlist.coreoperations.SinglyLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Publishing a new version of a {@code size}-element list: {@link PersistentLinkedList} edits return a new
+ * version that shares nodes with the old one, while the {@link SinglyLinkedList} baseline has to copy the
+ * whole list so that readers of the old version keep a stable view. Each benchmark publishes the new version
+ * and then keeps the length constant for the next invocation.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class PersistentLinkedListBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    int size;
+
+    PersistentLinkedList persistent;
+    SinglyLinkedList published;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        persistent = PersistentLinkedList.empty();
+        published = new SinglyLinkedList();
+        for (var i = 0; i < size; i++) {
+            persistent = persistent.insertAtBeginning(i);
+            published.insertAtLast(i);
+        }
+    }
+
+    @Benchmark
+    public PersistentLinkedList persistentInsertAtBeginning() {
+        var version = persistent.insertAtBeginning(42);
+        persistent = version.deleteAtBeginning();
+        return version;
+    }
+
+    @Benchmark
+    public PersistentLinkedList persistentInsertAtMiddlePosition() {
+        var position = size / 2 + 1;
+        var version = persistent.insertAtPosition(position, 42);
+        persistent = version.deleteAtPosition(position);
+        return version;
+    }
+
+    @Benchmark
+    public SinglyLinkedList copyOnWriteInsertAtBeginning() {
+        var version = new SinglyLinkedList();
+        published.iterator().forEachRemaining((int value) -> version.insertAtLast(value));
+        version.insertAtBeginning(42);
+        version.deleteAtBeginning();
+        published = version;
+        return version;
+    }
+}
@@ -0,0 +1,96 @@
+package com.gunapvkn.dsa.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.gunapvkn.dsa.linkedlist.coreoperations.SinglyLinkedList;
+import com.gunapvkn.dsa.linkedlist.coreoperations.UnrolledLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link SinglyLinkedList} and {@link UnrolledLinkedList} holding {@code size} values. Every benchmark pairs an insert with the matching
+ * delete so the list length stays constant and walks to the same depth on every invocation.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class SinglyLinkedListBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    int size;
+
+    SinglyLinkedList list;
+    UnrolledLinkedList unrolled;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        list = new SinglyLinkedList();
+        unrolled = new UnrolledLinkedList();
+        for (var i = 0; i < size; i++) {
+            list.insertAtBeginning(i);
+            unrolled.insertAtLast(i);
+        }
+    }
+
+    @Benchmark
+    public int insertDeleteAtBeginning() {
+        list.insertAtBeginning(42);
+        list.deleteAtBeginning();
+        return list.size();
+    }
+
+    @Benchmark
+    public int insertDeleteAtLast() {
+        list.insertAtLast(42);
+        list.deleteAtLast();
+        return list.size();
+    }
+
+    @Benchmark
+    public int insertDeleteAtMiddlePosition() {
+        var position = size / 2 + 1;
+        list.insertAtPosition(position, 42);
+        list.deleteAtPosition(position);
+        return list.size();
+    }
+
+    @Benchmark
+    public int unrolledInsertDeleteAtBeginning() {
+        unrolled.insertAtBeginning(42);
+        unrolled.deleteAtBeginning();
+        return unrolled.size();
+    }
+
+    @Benchmark
+    public int unrolledInsertDeleteAtLast() {
+        unrolled.insertAtLast(42);
+        unrolled.deleteAtLast();
+        return unrolled.size();
+    }
+
+    @Benchmark
+    public int unrolledInsertDeleteAtMiddlePosition() {
+        var position = size / 2 + 1;
+        unrolled.insertAtPosition(position, 42);
+        unrolled.deleteAtPosition(position);
+        return unrolled.size();
+    }
+
+    @Benchmark
+    public boolean isEmpty() {
+        return list.isEmpty();
+    }
+}
@@ -0,0 +1,101 @@
+package com.gunapvkn.dsa.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.gunapvkn.dsa.linkedlist.coreoperations.SinglyLinkedList;
+import com.gunapvkn.dsa.queue.coreoperations.ArrayQueue;
+import com.gunapvkn.dsa.queue.coreoperations.LinkedListQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Sequential and parallel {@code intStream()} traversals of {@link ArrayQueue}, {@link LinkedListQueue} and
+ * {@link SinglyLinkedList} holding {@code size} values. The ring buffer splits evenly; the linked structures
+ * split by copying batches into arrays, so their parallel speed-up is limited by the sequential walk and shows
+ * mostly on the {@code filterCount} variants, where each element costs more.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class StreamBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    int size;
+
+    ArrayQueue arrayQueue;
+    LinkedListQueue linkedQueue;
+    SinglyLinkedList list;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        arrayQueue = new ArrayQueue(size);
+        linkedQueue = new LinkedListQueue();
+        list = new SinglyLinkedList();
+        for (var i = 0; i < size; i++) {
+            arrayQueue.enque(i);
+            linkedQueue.enque(i);
+            list.insertAtLast(i);
+        }
+    }
+
+    /** A deliberately non-trivial per-element test so that the filter, not the traversal, dominates. */
+    static boolean isPrime(int value) {
+        if (value < 2) {
+            return false;
+        }
+        for (var d = 2; d * d <= value; d++) {
+            if (value % d == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Benchmark
+    public long arrayQueueSum() {
+        return arrayQueue.intStream().asLongStream().sum();
+    }
+
+    @Benchmark
+    public long arrayQueueParallelSum() {
+        return arrayQueue.intStream().parallel().asLongStream().sum();
+    }
+
+    @Benchmark
+    public long arrayQueueParallelFilterCount() {
+        return arrayQueue.intStream().parallel().filter(StreamBenchmark::isPrime).count();
+    }
+
+    @Benchmark
+    public long linkedQueueSum() {
+        return linkedQueue.intStream().asLongStream().sum();
+    }
+
+    @Benchmark
+    public long linkedQueueParallelFilterCount() {
+        return linkedQueue.intStream().parallel().filter(StreamBenchmark::isPrime).count();
+    }
+
+    @Benchmark
+    public long listFilterCount() {
+        return list.intStream().filter(StreamBenchmark::isPrime).count();
+    }
+
+    @Benchmark
+    public long listParallelFilterCount() {
+        return list.intStream().parallel().filter(StreamBenchmark::isPrime).count();
+    }
+}
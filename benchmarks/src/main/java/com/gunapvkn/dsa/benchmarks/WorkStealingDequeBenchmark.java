@@ -0,0 +1,72 @@
+package com.gunapvkn.dsa.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.gunapvkn.dsa.queue.coreoperations.WorkStealingDeque;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link WorkStealingDeque} with one owner thread per group. In {@code owner} the owner pushes and pops alone,
+ * which is the uncontended fast path. In {@code stolen} two thieves steal while the owner pushes two tasks and
+ * pops one per invocation, so the owner produces more than it consumes and the thieves rarely find the deque
+ * empty. If the thieves fall behind and more than {@code initialCapacity} tasks are queued, the owner pops
+ * once more, so the deque holds at most {@code initialCapacity + 2} tasks. Empty steals count as operations,
+ * so compare the per-method scores.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Group)
+public class WorkStealingDequeBenchmark {
+
+    @Param({"16", "1024"})
+    int initialCapacity;
+
+    WorkStealingDeque deque;
+
+    @Setup
+    public void setUp() {
+        deque = new WorkStealingDeque(initialCapacity);
+    }
+
+    @Benchmark
+    @Group("owner")
+    @GroupThreads(1)
+    public int ownerPushPop() {
+        deque.pushBottom(42);
+        return deque.popBottom(-1);
+    }
+
+    @Benchmark
+    @Group("stolen")
+    @GroupThreads(1)
+    public int ownerPushPushPop() {
+        deque.pushBottom(42);
+        deque.pushBottom(43);
+        if (deque.size() > initialCapacity) {
+            deque.popBottom(-1);
+        }
+        return deque.popBottom(-1);
+    }
+
+    @Benchmark
+    @Group("stolen")
+    @GroupThreads(2)
+    public int thiefSteal() {
+        return deque.steal(-1);
+    }
+}
@@ -1,13 +1,24 @@
 package com.gunapvkn.dsa.arrays.coreoperations;
 
+import com.gunapvkn.dsa.io.IntArraySnapshot;
+import com.gunapvkn.dsa.stats.OperationStats;
+
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
 
 public class ArrayDelete {
     // Instance variables:
     // arr: the underlying fixed-size array storage.
     // size: the current number of valid elements in the array.
+    // gap: gap-buffer view of arr when gap-buffer mode is enabled, otherwise null.
+    // stats: operation counters, only filled in when run with -Ddsa.stats=true.
     private final int[] arr;
     private int size;
+    private final GapBuffer gap;
+    private final OperationStats stats = OperationStats.forInstance(this);
 
     /**
      * Constructor: Initializes the ArrayDelete instance with an existing array.
@@ -15,8 +26,33 @@ public class ArrayDelete {
      * @param arr the array from which elements can be deleted.
      */
     public ArrayDelete(int[] arr) {
+        this(arr, false);
+    }
+
+    /**
+     * Constructor: Initializes the ArrayDelete instance with an existing array and storage mode.
+     * In gap-buffer mode deleted slots become a movable gap at the last edit position, so repeated
+     * deletes at or near the same index do not shift the whole tail (see {@link GapBuffer}).
+     * @param arr the array from which elements can be deleted.
+     * @param gapBuffer true to use gap-buffer storage, false for a plain contiguous array.
+     */
+    public ArrayDelete(int[] arr, boolean gapBuffer) {
         this.arr = arr;
         this.size = arr.length;
+        this.gap = gapBuffer ? new GapBuffer(arr, arr.length) : null;
+    }
+
+    /**
+     * Constructor: Wraps a restored backing array whose first size slots hold the elements.
+     *
+     * @param arr       the backing array; its length is the capacity.
+     * @param size      the number of elements stored at the front of arr.
+     * @param gapBuffer true to use gap-buffer storage, false for a plain contiguous array.
+     */
+    private ArrayDelete(int[] arr, int size, boolean gapBuffer) {
+        this.arr = arr;
+        this.size = size;
+        this.gap = gapBuffer ? new GapBuffer(arr, size) : null;
     }
 
     /**
@@ -26,12 +62,16 @@ public class ArrayDelete {
      * @return the new index of the last element (size - 1), or -1 if the array is empty.
      */
     public int deleteAtEnd() {
+        var start = OperationStats.start();
         if (size == 0) {
             System.out.println("Array is empty");
-            return -1;
+            return rejected("deleteAtEnd", start);
         }
+        var moved = gap != null ? gap.delete(size - 1) : 0;
         // Decrement size, which removes the last element logically.
-        return --size;
+        size--;
+        completed("deleteAtEnd", start, moved);
+        return size;
     }
 
     /**
@@ -42,16 +82,24 @@ public class ArrayDelete {
      * @return 0, indicating that the deletion occurred at index 0, or -1 if the array is empty.
      */
     public int deleteAtBeginning() {
+        var start = OperationStats.start();
         if (size == 0) {
             System.out.println("Array is empty");
-            return -1;
+            return rejected("deleteAtBeginning", start);
         }
-        // Shift all elements one position to the left starting from index 0.
-        for (var i = 0; i < size - 1; i++) {
-            arr[i] = arr[i + 1];
+        int moved;
+        if (gap != null) {
+            moved = gap.delete(0);
+        } else {
+            // Shift all elements one position to the left starting from index 0.
+            for (var i = 0; i < size - 1; i++) {
+                arr[i] = arr[i + 1];
+            }
+            moved = size - 1;
         }
         // Decrement size to reflect the deletion.
         size--;
+        completed("deleteAtBeginning", start, moved);
         return 0;
     }
 
@@ -64,43 +112,276 @@ public class ArrayDelete {
      * @return the index where deletion occurred, or -1 if the array is empty or the index is invalid.
      */
     public int deleteAtIndex(int index) {
+        var start = OperationStats.start();
         if (size == 0) {
             System.out.println("Array is empty");
-            return -1;
+            return rejected("deleteAtIndex", start);
         }
         if (index < 0 || index >= size) {
             System.out.println("Invalid Index");
-            return -1;
+            return rejected("deleteAtIndex", start);
         }
-        // Shift elements left from the given index to remove the element.
-        for (var i = index; i < size - 1; i++) {
-            arr[i] = arr[i + 1];
-        }
-        size--;
+        completed("deleteAtIndex", start, removeAt(index));
         return index;
     }
 
     /**
      * Deletes the first occurrence of the specified value from the array.
-     * It searches for the value in the array. If found, it calls deleteAtIndex() to remove the element.
+     * It searches for the value in the array. If found, it removes the element the same way deleteAtIndex() does.
      * @param value the value to delete from the array.
      * @return the index from which the element was deleted, or -1 if the value is not found.
      */
     public int deleteByValue(int value) {
-        var index = -1;
+        var start = OperationStats.start();
         // Search for the value in the array.
-        for (var i = 0; i < size; i++) {
-            if (arr[i] == value) {
-                index = i;
-                break;
-            }
-        }
+        var index = indexOf(value);
         if (index == -1) {
             System.out.println("Value not found");
-            return -1;
+            return rejected("deleteByValue", start);
         }
         // Delete the element at the found index.
-        return deleteAtIndex(index);
+        completed("deleteByValue", start, removeAt(index));
+        return index;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value.
+     * The scan uses SIMD comparisons when the JVM runs with --add-modules jdk.incubator.vector,
+     * and a scalar loop otherwise (see {@link IntSearch}).
+     * @param value the value to search for.
+     * @return the index of the first occurrence, or -1 if the value is not found.
+     */
+    public int indexOf(int value) {
+        return gap != null ? gap.indexOf(value) : IntSearch.indexOf(arr, 0, size, value);
+    }
+
+    /**
+     * Checks whether the array contains the specified value.
+     * @param value the value to search for.
+     * @return true if the value is present; false otherwise.
+     */
+    public boolean contains(int value) {
+        return indexOf(value) != -1;
+    }
+
+    /**
+     * Counts the occurrences of the specified value, vectorized like indexOf(int).
+     * @param value the value to count.
+     * @return the number of elements equal to value.
+     */
+    public int countOf(int value) {
+        return gap != null ? gap.countOf(value) : IntSearch.countOf(arr, 0, size, value);
+    }
+
+    /**
+     * Deletes all elements in the index range [from, to).
+     * The elements after the range are shifted left once with a single System.arraycopy.
+     * Nothing is printed; failures are reported through the return value only.
+     * @param from the first index to delete (inclusive).
+     * @param to the end of the range (exclusive).
+     * @return the number of deleted elements, or -1 if the range is invalid.
+     */
+    public int deleteRange(int from, int to) {
+        var start = OperationStats.start();
+        if (from < 0 || to > size || from > to) {
+            return rejected("deleteRange", start);
+        }
+        int moved;
+        if (gap != null) {
+            moved = gap.deleteRange(from, to);
+        } else {
+            System.arraycopy(arr, to, arr, from, size - to);
+            moved = size - to;
+        }
+        size -= to - from;
+        completed("deleteRange", start, moved);
+        return to - from;
+    }
+
+    /**
+     * Deletes every occurrence of the specified value in one compaction pass,
+     * instead of searching and shifting once per occurrence.
+     * @param value the value to delete from the array.
+     * @return the number of deleted elements (0 if the value is not present).
+     */
+    public int deleteAllByValue(int value) {
+        return deleteAllByValues(value);
+    }
+
+    /**
+     * Deletes every element equal to any of the specified values in one compaction pass.
+     * Blocks of elements are checked against all values at once with SIMD comparisons when the Vector API
+     * is available, and blocks without a match are moved with a single vector store.
+     * Intended for a handful of values; use removeIf(IntPredicate) for large or computed sets.
+     * @param values the values to delete from the array.
+     * @return the number of deleted elements (0 if none of the values is present).
+     */
+    public int deleteAllByValues(int... values) {
+        if (values.length == 0 || size == 0) {
+            return 0;
+        }
+        var start = OperationStats.start();
+        int removed;
+        if (gap != null) {
+            removed = gap.removeValues(values);
+        } else {
+            removed = size - IntSearch.compactValues(arr, size, values);
+        }
+        size -= removed;
+        compacted("deleteAllByValues", start);
+        return removed;
+    }
+
+    /**
+     * Deletes every element that matches the predicate in one compaction pass.
+     * Surviving elements keep their relative order.
+     * @param filter returns true for elements that should be deleted.
+     * @return the number of deleted elements.
+     */
+    public int removeIf(IntPredicate filter) {
+        var start = OperationStats.start();
+        int removed;
+        if (gap != null) {
+            removed = gap.removeIf(filter);
+        } else {
+            removed = size - GapBuffer.compact(arr, size, filter);
+        }
+        size -= removed;
+        compacted("removeIf", start);
+        return removed;
+    }
+
+    /**
+     * Deletes every element that matches the predicate, like removeIf(IntPredicate), but splits the work
+     * across the common ForkJoinPool: chunks are filtered and compacted in parallel, then moved into place
+     * using a prefix sum of the per-chunk survivor counts (see {@link ParallelCompaction}).
+     * Arrays shorter than 65536 elements are processed sequentially.
+     * The predicate is called concurrently from several threads, so it must be stateless and thread-safe.
+     * @param filter returns true for elements that should be deleted.
+     * @return the number of deleted elements.
+     */
+    public int deleteAllMatching(IntPredicate filter) {
+        var start = OperationStats.start();
+        int removed;
+        if (gap != null) {
+            removed = gap.removeIfParallel(filter);
+        } else {
+            removed = size - ParallelCompaction.compact(arr, size, filter);
+        }
+        size -= removed;
+        compacted("deleteAllMatching", start);
+        return removed;
+    }
+
+    /**
+     * Keeps only the elements that match the predicate, deleting the rest in parallel.
+     * Equivalent to deleteAllMatching(keep.negate()).
+     * @param keep returns true for elements that should stay.
+     * @return the number of deleted elements.
+     */
+    public int retainIf(IntPredicate keep) {
+        return deleteAllMatching(keep.negate());
+    }
+
+    /**
+     * Returns the value stored at a specified index (0 to size-1).
+     * Runs in O(1) in both storage modes.
+     * @param index the index to read.
+     * @return the value at that index.
+     * @throws IndexOutOfBoundsException if the index is invalid.
+     */
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Invalid index: " + index);
+        }
+        return gap != null ? gap.get(index) : arr[index];
+    }
+
+    /** @return the number of elements currently stored. */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the operation counters: operations, elements shifted, rejections (empty array, invalid index,
+     * value not found), peak size and latency. Compaction passes (removeIf and friends) count every surviving
+     * element as moved, an upper bound on what they actually copy.
+     *
+     * @return the stats object; {@link OperationStats#DISABLED} unless run with -Ddsa.stats=true.
+     */
+    public OperationStats stats() {
+        return stats;
+    }
+
+    /**
+     * Removes the element at a valid index and decrements the size.
+     * @return the number of elements shifted to close the gap.
+     */
+    private int removeAt(int index) {
+        int moved;
+        if (gap != null) {
+            moved = gap.delete(index);
+        } else {
+            // Shift elements left from the given index to remove the element.
+            for (var i = index; i < size - 1; i++) {
+                arr[i] = arr[i + 1];
+            }
+            moved = size - 1 - index;
+        }
+        size--;
+        return moved;
+    }
+
+    /** Records a rejected call when instrumentation is on. @return -1, the usual failure result. */
+    private int rejected(String operation, long start) {
+        if (OperationStats.ENABLED) {
+            stats.rejected(operation, start, size);
+        }
+        return -1;
+    }
+
+    /** Records a completed call when instrumentation is on. */
+    private void completed(String operation, long start, long moved) {
+        if (OperationStats.ENABLED) {
+            stats.completed(operation, start, moved, size);
+        }
+    }
+
+    /** Records a completed compaction pass, counting the survivors as moved. */
+    private void compacted(String operation, long start) {
+        completed(operation, start, size);
+    }
+
+    /**
+     * Saves the current elements, the capacity and the storage mode to a binary snapshot file.
+     * Only elements 0 to size-1 are written, as one bulk transfer of the backing array.
+     * In gap-buffer mode the gap is first moved to the end so the elements are contiguous.
+     *
+     * @param path the file to write; an existing file is replaced atomically.
+     * @throws IOException if the file cannot be written.
+     * @see IntArraySnapshot
+     */
+    public void snapshotTo(Path path) throws IOException {
+        var flags = 0;
+        if (gap != null) {
+            gap.moveGap(size);
+            flags = IntArraySnapshot.FLAG_GAP_BUFFER;
+        }
+        IntArraySnapshot.write(path, arr, size, arr.length, flags);
+    }
+
+    /**
+     * Creates an instance from a file written by snapshotTo(Path),
+     * with the saved capacity, elements and storage mode.
+     *
+     * @param path the snapshot file to read.
+     * @return the restored instance.
+     * @throws IOException if the file cannot be read or is not a valid snapshot.
+     */
+    public static ArrayDelete restoreFrom(Path path) throws IOException {
+        var contents = IntArraySnapshot.read(path);
+        var gapBuffer = (contents.flags() & IntArraySnapshot.FLAG_GAP_BUFFER) != 0;
+        return new ArrayDelete(contents.arr(), contents.length(), gapBuffer);
     }
 
     /**
@@ -110,7 +391,8 @@ public class ArrayDelete {
     public void printArray() {
         System.out.print("Current Array (size " + size + "): ");
         // Use stream to print each element up to the current size.
-        Arrays.stream(arr).limit(size).forEach(value -> System.out.print(value + " "));
+        var values = gap != null ? gap.stream() : Arrays.stream(arr).limit(size);
+        values.forEach(value -> System.out.print(value + " "));
         System.out.println();
     }
 
@@ -122,7 +404,7 @@ public class ArrayDelete {
      * 4. Delete element by its value.
      * Also demonstrates error handling when attempting deletions on an empty array or with an invalid index.
      */
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
         // Initialize an array with sample values.
         int[] initialArray = {10, 20, 30, 40, 50};
         // Create an ArrayDelete instance using the initial array.
@@ -164,5 +446,54 @@ public class ArrayDelete {
         System.out.println("\nTest: Delete by Value (100) - Non-existent");
         deletedIndex = arrayDelete.deleteByValue(100);
         arrayDelete.printArray();
+
+        // Test 6: Gap-buffer mode with clustered deletes around the same position.
+        System.out.println("\nTest: Gap-Buffer Mode with Clustered Deletes");
+        ArrayDelete gapDelete = new ArrayDelete(new int[]{1, 2, 3, 4, 5, 6, 7, 8, 9}, true);
+        gapDelete.deleteAtIndex(4); // removes 5; the gap now sits at index 4
+        gapDelete.deleteAtIndex(4); // removes 6 without moving the gap
+        gapDelete.deleteAtIndex(3); // removes 4 (backspace-style) without moving the gap
+        gapDelete.printArray();      // 1 2 3 7 8 9
+        System.out.println("Deleted 8 at index: " + gapDelete.deleteByValue(8));
+        System.out.println("Value at index 3: " + gapDelete.get(3));
+        gapDelete.printArray();      // 1 2 3 7 9
+        System.out.println("Stats: " + gapDelete.stats()); // run with -Ddsa.stats=true to record
+
+        // Test 7: Bulk deletes - a range, every occurrence of a value, and a predicate.
+        System.out.println("\nTest: Bulk Deletes");
+        ArrayDelete bulkDelete = new ArrayDelete(new int[]{5, 1, 5, 2, 3, 5, 4, 6, 7, 8});
+        System.out.println("Deleted range [7, 10): " + bulkDelete.deleteRange(7, 10) + " elements");
+        System.out.println("Deleted all 5s: " + bulkDelete.deleteAllByValue(5) + " elements");
+        System.out.println("Deleted even values: " + bulkDelete.removeIf(v -> v % 2 == 0) + " elements");
+        bulkDelete.printArray();     // 1 3
+
+        // Test 8: Search and multi-value delete (SIMD when run with --add-modules jdk.incubator.vector).
+        System.out.println("\nTest: Search and Multi-Value Delete (vectorized: " + IntSearch.VECTORIZED + ")");
+        int[] values = new int[40];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i % 10;
+        }
+        ArrayDelete searchDelete = new ArrayDelete(values);
+        System.out.println("Index of 7: " + searchDelete.indexOf(7) + ", contains 42? " + searchDelete.contains(42)
+                + ", count of 3: " + searchDelete.countOf(3));
+        System.out.println("Deleted all 0s, 2s and 9s: " + searchDelete.deleteAllByValues(0, 2, 9) + " elements");
+        System.out.println("Count of 2 after delete: " + searchDelete.countOf(2) + ", size: " + searchDelete.size());
+
+        // Test 9: Parallel filtering of a large array.
+        System.out.println("\nTest: Parallel Retain and Delete");
+        ArrayDelete largeDelete = new ArrayDelete(IntStream.range(0, 1_000_000).toArray());
+        System.out.println("Retained multiples of 3, deleted: " + largeDelete.retainIf(v -> v % 3 == 0) + " elements");
+        System.out.println("Deleted odd values: " + largeDelete.deleteAllMatching(v -> (v & 1) == 1) + " elements");
+        System.out.println("Size: " + largeDelete.size() + ", first: " + largeDelete.get(0) + ", second: "
+                + largeDelete.get(1) + ", last: " + largeDelete.get(largeDelete.size() - 1)); // 166667, 0, 6, 999996
+
+        // Test 10: Snapshot to a file and restore; only the live elements are saved.
+        System.out.println("\nTest: Snapshot and Restore");
+        Path file = Path.of(System.getProperty("java.io.tmpdir"), "array-delete.snapshot");
+        gapDelete.snapshotTo(file);
+        ArrayDelete restoredDelete = ArrayDelete.restoreFrom(file);
+        restoredDelete.printArray(); // 1 2 3 7 9
+        System.out.println("Deleted from restored array at index: " + restoredDelete.deleteAtIndex(1));
+        restoredDelete.printArray(); // 1 3 7 9
     }
 }
@@ -1,5 +1,10 @@
 package com.gunapvkn.dsa.arrays.coreoperations;
 
+import com.gunapvkn.dsa.io.IntArraySnapshot;
+import com.gunapvkn.dsa.stats.OperationStats;
+
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Arrays;
 
 public class ArrayInsert {
@@ -7,9 +12,15 @@ public class ArrayInsert {
     // arr: the underlying array storage with fixed capacity.
     // size: the current number of inserted elements in the array.
     // capacity: the maximum number of elements the array can hold (set once in the constructor).
+    // gap: gap-buffer view of arr when gap-buffer mode is enabled, otherwise null.
+    // sorted: true in sorted mode, where arr[0, size) is kept in ascending order and only insert(value) adds elements.
+    // stats: operation counters, only filled in when run with -Ddsa.stats=true.
     private final int[] arr;
     private int size;
     private final int capacity;
+    private final GapBuffer gap;
+    private final boolean sorted;
+    private final OperationStats stats = OperationStats.forInstance(this);
 
     /**
      * Constructor: Initializes the array with a specified capacity.
@@ -18,9 +29,53 @@ public class ArrayInsert {
      * @param capacity the maximum number of elements that can be stored.
      */
     public ArrayInsert(int capacity) {
+        this(capacity, false);
+    }
+
+    /**
+     * Constructor: Initializes the array with a specified capacity and storage mode.
+     * In gap-buffer mode the free space is kept as a movable gap at the last edit position,
+     * so repeated inserts at or near the same index only move the elements between edits
+     * instead of shifting the whole tail (see {@link GapBuffer}).
+     *
+     * @param capacity  the maximum number of elements that can be stored.
+     * @param gapBuffer true to use gap-buffer storage, false for a plain contiguous array.
+     */
+    public ArrayInsert(int capacity, boolean gapBuffer) {
         this.arr = new int[capacity];
         this.size = 0;
         this.capacity = capacity;
+        this.gap = gapBuffer ? new GapBuffer(arr, 0) : null;
+        this.sorted = false;
+    }
+
+    /**
+     * Constructor: Wraps a restored backing array whose first size slots hold the elements.
+     *
+     * @param arr       the backing array; its length is the capacity.
+     * @param size      the number of elements stored at the front of arr.
+     * @param gapBuffer true to use gap-buffer storage, false for a plain contiguous array.
+     * @param sorted    true if arr[0, size) is in ascending order and the instance is in sorted mode.
+     */
+    private ArrayInsert(int[] arr, int size, boolean gapBuffer, boolean sorted) {
+        this.arr = arr;
+        this.size = size;
+        this.capacity = arr.length;
+        this.gap = gapBuffer ? new GapBuffer(arr, size) : null;
+        this.sorted = sorted;
+    }
+
+    /**
+     * Creates an empty array in sorted mode. Elements are added with insert(int) or bulkMerge(int[]),
+     * which keep them in ascending order, and can then be queried with contains, floor, ceiling and rank
+     * in O(log n). The positional insert and update methods are rejected in this mode because they
+     * could break the order.
+     *
+     * @param capacity the maximum number of elements that can be stored.
+     * @return a new, empty sorted array.
+     */
+    public static ArrayInsert sorted(int capacity) {
+        return new ArrayInsert(new int[capacity], 0, false, true);
     }
 
     /**
@@ -34,13 +89,25 @@ public class ArrayInsert {
      * @return the index where the value was inserted, or -1 if the array is full.
      */
     public int insertAtEnd(int value) {
+        var start = OperationStats.start();
+        if (sorted) {
+            System.out.println("Array is sorted; use insert(value)");
+            return rejected("insertAtEnd", start);
+        }
         if (size >= capacity) {
             System.out.println("Array is full");
-            return -1;
+            return rejected("insertAtEnd", start);
+        }
+        var moved = 0;
+        if (gap != null) {
+            moved = gap.insert(size, value);
+        } else {
+            arr[size] = value;
         }
-        arr[size] = value;
-        // Return the current index and then increment size.
-        return size++;
+        // Increment size and return the index the value was written to.
+        size++;
+        completed("insertAtEnd", start, moved);
+        return size - 1;
     }
 
     /**
@@ -54,16 +121,28 @@ public class ArrayInsert {
      * @return 0 if insertion is successful (value inserted at index 0), or -1 if the array is full.
      */
     public int insertAtBeginning(int value) {
+        var start = OperationStats.start();
+        if (sorted) {
+            System.out.println("Array is sorted; use insert(value)");
+            return rejected("insertAtBeginning", start);
+        }
         if (size >= capacity) {
             System.out.println("Array is full");
-            return -1;
+            return rejected("insertAtBeginning", start);
         }
-        // Shift elements right to make room at index 0.
-        for (var i = size; i > 0; i--) {
-            arr[i] = arr[i - 1];
+        int moved;
+        if (gap != null) {
+            moved = gap.insert(0, value);
+        } else {
+            // Shift elements right to make room at index 0.
+            for (var i = size; i > 0; i--) {
+                arr[i] = arr[i - 1];
+            }
+            arr[0] = value;
+            moved = size;
         }
-        arr[0] = value;
         size++;
+        completed("insertAtBeginning", start, moved);
         return 0;
     }
 
@@ -79,23 +158,64 @@ public class ArrayInsert {
      * @return the index where the value was inserted, or -1 if insertion fails.
      */
     public int insertAtIndex(int index, int value) {
+        var start = OperationStats.start();
+        if (sorted) {
+            System.out.println("Array is sorted; use insert(value)");
+            return rejected("insertAtIndex", start);
+        }
         if (size >= capacity) {
             System.out.println("Array is full");
-            return -1;
+            return rejected("insertAtIndex", start);
         }
         if (index < 0 || index > size) {
             System.out.println("Invalid index");
-            return -1;
+            return rejected("insertAtIndex", start);
         }
-        // Shift elements right from the specified index to make space.
-        for (var i = size; i > index; i--) {
-            arr[i] = arr[i - 1];
+        int moved;
+        if (gap != null) {
+            moved = gap.insert(index, value);
+        } else {
+            // Shift elements right from the specified index to make space.
+            for (var i = size; i > index; i--) {
+                arr[i] = arr[i - 1];
+            }
+            arr[index] = value;
+            moved = size - index;
         }
-        arr[index] = value;
         size++;
+        completed("insertAtIndex", start, moved);
         return index;
     }
 
+    /**
+     * Inserts all given values at a specified index, keeping their order.
+     * The existing elements from the index onwards are shifted right once by values.length
+     * with a single System.arraycopy, instead of once per inserted value.
+     * Nothing is printed; failures are reported through the return value only.
+     *
+     * @param index  the target position of the first inserted value (0 to size inclusive).
+     * @param values the values to insert.
+     * @return the number of values inserted, or -1 if the index is invalid, there is not enough room,
+     *         or the array is in sorted mode.
+     */
+    public int insertAll(int index, int[] values) {
+        var start = OperationStats.start();
+        if (sorted || index < 0 || index > size || values.length > capacity - size) {
+            return rejected("insertAll", start);
+        }
+        int moved;
+        if (gap != null) {
+            moved = gap.insertAll(index, values);
+        } else {
+            System.arraycopy(arr, index, arr, index + values.length, size - index);
+            System.arraycopy(values, 0, arr, index, values.length);
+            moved = size - index;
+        }
+        size += values.length;
+        completed("insertAll", start, moved);
+        return values.length;
+    }
+
     /**
      * Updates the value at a specified index.
      * This method only allows updating elements that have already been inserted
@@ -106,21 +226,280 @@ public class ArrayInsert {
      * @return true if the update is successful; false if the index is invalid.
      */
     public boolean updateValue(int index, int value) {
+        var start = OperationStats.start();
+        if (sorted) {
+            System.out.println("Array is sorted; use insert(value)");
+            rejected("updateValue", start);
+            return false;
+        }
         if (index < 0 || index >= size) {
             System.out.println("Invalid index");
+            rejected("updateValue", start);
             return false;
         }
-        arr[index] = value;
+        if (gap != null) {
+            gap.set(index, value);
+        } else {
+            arr[index] = value;
+        }
+        completed("updateValue", start, 0);
         return true;
     }
 
+    /**
+     * Inserts a value into a sorted-mode array, keeping ascending order.
+     * The slot is found by binary search (after any equal elements), and the elements behind it
+     * are shifted right with a single System.arraycopy.
+     *
+     * @param value the integer value to insert.
+     * @return the index where the value was inserted, or -1 if the array is full.
+     * @throws IllegalStateException if the array is not in sorted mode.
+     */
+    public int insert(int value) {
+        requireSorted();
+        var start = OperationStats.start();
+        if (size >= capacity) {
+            System.out.println("Array is full");
+            return rejected("insert", start);
+        }
+        var index = upperBound(value);
+        System.arraycopy(arr, index, arr, index + 1, size - index);
+        arr[index] = value;
+        size++;
+        completed("insert", start, size - 1 - index);
+        return index;
+    }
+
+    /**
+     * Merges an ascending batch into a sorted-mode array in O(size + batch length).
+     * The merge runs from the back of both arrays into the free space, so no temporary array is needed
+     * and every existing element is moved at most once, instead of once per inserted value.
+     * Nothing is printed; failures are reported through the return value only.
+     *
+     * @param sortedBatch the values to add, in ascending order.
+     * @return the number of values inserted, or -1 if there is not enough room or the batch is not sorted.
+     * @throws IllegalStateException if the array is not in sorted mode.
+     */
+    public int bulkMerge(int[] sortedBatch) {
+        requireSorted();
+        var start = OperationStats.start();
+        if (sortedBatch.length > capacity - size) {
+            return rejected("bulkMerge", start);
+        }
+        for (var i = 1; i < sortedBatch.length; i++) {
+            if (sortedBatch[i - 1] > sortedBatch[i]) {
+                return rejected("bulkMerge", start);
+            }
+        }
+        var read = size - 1;
+        var batch = sortedBatch.length - 1;
+        var write = size + sortedBatch.length - 1;
+        while (batch >= 0) {
+            // Existing elements win ties, so equal values keep insertion order like insert(value).
+            arr[write--] = read >= 0 && arr[read] > sortedBatch[batch] ? arr[read--] : sortedBatch[batch--];
+        }
+        // Existing elements above the last read position were shifted; the ones below stayed put.
+        var moved = size - 1 - read;
+        size += sortedBatch.length;
+        completed("bulkMerge", start, moved);
+        return sortedBatch.length;
+    }
+
+    /**
+     * Checks whether a value is present: binary search in sorted mode, linear scan otherwise.
+     *
+     * @param value the value to look for.
+     * @return true if some element equals value.
+     */
+    public boolean contains(int value) {
+        if (sorted) {
+            var index = lowerBound(value);
+            return index < size && arr[index] == value;
+        }
+        for (var i = 0; i < size; i++) {
+            if (get(i) == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the largest element less than or equal to a value in a sorted-mode array.
+     *
+     * @param value         the value to look up.
+     * @param valueIfAbsent the value to return if every element is larger.
+     * @return the floor of value, or valueIfAbsent.
+     * @throws IllegalStateException if the array is not in sorted mode.
+     */
+    public int floor(int value, int valueIfAbsent) {
+        requireSorted();
+        var index = upperBound(value) - 1;
+        return index >= 0 ? arr[index] : valueIfAbsent;
+    }
+
+    /**
+     * Returns the smallest element greater than or equal to a value in a sorted-mode array.
+     *
+     * @param value         the value to look up.
+     * @param valueIfAbsent the value to return if every element is smaller.
+     * @return the ceiling of value, or valueIfAbsent.
+     * @throws IllegalStateException if the array is not in sorted mode.
+     */
+    public int ceiling(int value, int valueIfAbsent) {
+        requireSorted();
+        var index = lowerBound(value);
+        return index < size ? arr[index] : valueIfAbsent;
+    }
+
+    /**
+     * Returns the number of elements strictly less than a value in a sorted-mode array,
+     * which is also the index of its first occurrence when it is present.
+     *
+     * @param value the value to rank.
+     * @return the rank of value (0 to size).
+     * @throws IllegalStateException if the array is not in sorted mode.
+     */
+    public int rank(int value) {
+        requireSorted();
+        return lowerBound(value);
+    }
+
+    /**
+     * Copies a sorted-mode array into a read-only view laid out in Eytzinger (BFS) order,
+     * for read-heavy phases with many lookups against the same data.
+     * Later changes to this array are not reflected in the view.
+     *
+     * @return the frozen view.
+     * @throws IllegalStateException if the array is not in sorted mode.
+     * @see EytzingerIntArray
+     */
+    public EytzingerIntArray freeze() {
+        requireSorted();
+        return new EytzingerIntArray(arr, size);
+    }
+
+    /** @return the first index whose element is &gt;= value (size if none). */
+    private int lowerBound(int value) {
+        int low = 0, high = size;
+        while (low < high) {
+            var mid = (low + high) >>> 1;
+            if (arr[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /** @return the first index whose element is &gt; value (size if none). */
+    private int upperBound(int value) {
+        int low = 0, high = size;
+        while (low < high) {
+            var mid = (low + high) >>> 1;
+            if (arr[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /** Records a rejected call when instrumentation is on. @return -1, the usual failure result. */
+    private int rejected(String operation, long start) {
+        if (OperationStats.ENABLED) {
+            stats.rejected(operation, start, size);
+        }
+        return -1;
+    }
+
+    /** Records a completed call when instrumentation is on. */
+    private void completed(String operation, long start, long moved) {
+        if (OperationStats.ENABLED) {
+            stats.completed(operation, start, moved, size);
+        }
+    }
+
+    private void requireSorted() {
+        if (!sorted) {
+            throw new IllegalStateException("Array is not in sorted mode");
+        }
+    }
+
+    /**
+     * Returns the value stored at a specified index (0 to size-1).
+     * Runs in O(1) in both storage modes.
+     *
+     * @param index the index to read.
+     * @return the value at that index.
+     * @throws IndexOutOfBoundsException if the index is invalid.
+     */
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Invalid index: " + index);
+        }
+        return gap != null ? gap.get(index) : arr[index];
+    }
+
+    /** @return the number of elements currently stored. */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the operation counters: operations, elements shifted, rejections (full, invalid index,
+     * wrong mode), peak size and latency. A high elements-moved-per-operation ratio shows that inserts
+     * are degenerating into O(n) shifts.
+     *
+     * @return the stats object; {@link OperationStats#DISABLED} unless run with -Ddsa.stats=true.
+     */
+    public OperationStats stats() {
+        return stats;
+    }
+
+    /**
+     * Saves the current elements, the capacity and the storage and sorted modes to a binary snapshot file.
+     * Only elements 0 to size-1 are written, as one bulk transfer of the backing array.
+     * In gap-buffer mode the gap is first moved to the end so the elements are contiguous.
+     *
+     * @param path the file to write; an existing file is replaced atomically.
+     * @throws IOException if the file cannot be written.
+     * @see IntArraySnapshot
+     */
+    public void snapshotTo(Path path) throws IOException {
+        var flags = sorted ? IntArraySnapshot.FLAG_SORTED : 0;
+        if (gap != null) {
+            gap.moveGap(size);
+            flags |= IntArraySnapshot.FLAG_GAP_BUFFER;
+        }
+        IntArraySnapshot.write(path, arr, size, capacity, flags);
+    }
+
+    /**
+     * Creates an instance from a file written by snapshotTo(Path),
+     * with the saved capacity, elements, storage mode and sorted mode.
+     *
+     * @param path the snapshot file to read.
+     * @return the restored instance.
+     * @throws IOException if the file cannot be read or is not a valid snapshot.
+     */
+    public static ArrayInsert restoreFrom(Path path) throws IOException {
+        var contents = IntArraySnapshot.read(path);
+        var gapBuffer = (contents.flags() & IntArraySnapshot.FLAG_GAP_BUFFER) != 0;
+        var sorted = (contents.flags() & IntArraySnapshot.FLAG_SORTED) != 0;
+        return new ArrayInsert(contents.arr(), contents.length(), gapBuffer, sorted);
+    }
+
     /**
      * Utility method to print the current state of the array.
      * Only the elements from index 0 to size-1 are printed, since those have been inserted.
      */
     public void printArray() {
         System.out.print("Current Array (size " + size + "): ");
-        Arrays.stream(arr).limit(size).forEach(value -> System.out.print(value + " "));
+        var values = gap != null ? gap.stream() : Arrays.stream(arr).limit(size);
+        values.forEach(value -> System.out.print(value + " "));
         System.out.println();
     }
 
@@ -132,7 +511,7 @@ public class ArrayInsert {
      * 4. Updating a value at a specific index.
      * Also demonstrates error handling when the array is full or an invalid index is used.
      */
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
         // Create an ArrayInsert instance with a capacity of 5.
         ArrayInsert arrayInsert = new ArrayInsert(5);
 
@@ -180,5 +559,56 @@ public class ArrayInsert {
         System.out.println("\nTest: Attempt to Update Invalid Index (index 5)");
         result = arrayInsert.updateValue(5, 70);
         System.out.println("Update at index 5 was " + (result ? "successful" : "unsuccessful"));
+
+        // Test 7: Gap-buffer mode with clustered inserts around the same position.
+        System.out.println("\nTest: Gap-Buffer Mode with Clustered Inserts");
+        ArrayInsert gapInsert = new ArrayInsert(10, true);
+        gapInsert.insertAtEnd(1);
+        gapInsert.insertAtEnd(9);
+        for (var value = 2; value <= 8; value++) {
+            // Each insert lands right after the previous one, so the gap never has to move.
+            gapInsert.insertAtIndex(value - 1, value);
+        }
+        gapInsert.printArray();
+        gapInsert.updateValue(4, 50);
+        System.out.println("Value at index 4 after update: " + gapInsert.get(4));
+        System.out.println("Stats: " + gapInsert.stats()); // run with -Ddsa.stats=true to record
+
+        // Test 8: Bulk insert of several values with a single shift.
+        System.out.println("\nTest: Insert All at Index 1");
+        ArrayInsert bulkInsert = new ArrayInsert(8);
+        bulkInsert.insertAtEnd(1);
+        bulkInsert.insertAtEnd(5);
+        System.out.println("Inserted " + bulkInsert.insertAll(1, new int[]{2, 3, 4}) + " values");
+        bulkInsert.printArray();    // 1 2 3 4 5
+        System.out.println("Insert of 4 more values returned: " + bulkInsert.insertAll(0, new int[]{6, 7, 8, 9}));
+
+        // Test 9: Sorted mode with binary-search inserts, bulk merge and queries.
+        System.out.println("\nTest: Sorted Mode");
+        ArrayInsert sortedInsert = ArrayInsert.sorted(12);
+        for (int value : new int[]{40, 10, 30, 20}) {
+            sortedInsert.insert(value);
+        }
+        System.out.println("Merged " + sortedInsert.bulkMerge(new int[]{5, 25, 25, 50}) + " values");
+        sortedInsert.printArray();      // 5 10 20 25 25 30 40 50
+        System.out.println("contains(25)=" + sortedInsert.contains(25) + ", floor(27)=" + sortedInsert.floor(27, -1)
+                + ", ceiling(41)=" + sortedInsert.ceiling(41, -1) + ", rank(30)=" + sortedInsert.rank(30));
+        System.out.println("Positional insert in sorted mode returned: " + sortedInsert.insertAtBeginning(1));
+
+        // Test 10: Frozen Eytzinger view for lookups.
+        System.out.println("\nTest: Frozen Eytzinger View");
+        EytzingerIntArray frozen = sortedInsert.freeze();
+        System.out.println("contains(25)=" + frozen.contains(25) + ", contains(26)=" + frozen.contains(26)
+                + ", floor(4)=" + frozen.floor(4, -1) + ", floor(27)=" + frozen.floor(27, -1)
+                + ", ceiling(41)=" + frozen.ceiling(41, -1) + ", ceiling(51)=" + frozen.ceiling(51, -1));
+
+        // Test 11: Snapshot to a file and restore, keeping capacity and gap-buffer mode.
+        System.out.println("\nTest: Snapshot and Restore");
+        Path file = Path.of(System.getProperty("java.io.tmpdir"), "array-insert.snapshot");
+        gapInsert.snapshotTo(file);
+        ArrayInsert restoredInsert = ArrayInsert.restoreFrom(file);
+        restoredInsert.printArray();    // 1 2 3 4 50 6 7 8 9
+        System.out.println("Insert into restored array at index: " + restoredInsert.insertAtIndex(0, 0));
+        restoredInsert.printArray();    // 0 1 2 3 4 50 6 7 8 9
     }
 }
@@ -0,0 +1,490 @@
+package com.gunapvkn.dsa.arrays.coreoperations;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * An int array addressed by {@code long} index that can hold more than 2^31 elements, with the insert, delete,
+ * update and traversal operations of {@link ArrayInsert} and {@link ArrayDelete}.
+ *
+ * <p>The elements live in fixed-size segments of 2^segmentShift ints instead of one contiguous array. Element
+ * {@code i} is stored at {@code segments[i >>> shift][i & mask]}. Segments are allocated only when the size grows
+ * into them and released again when deletes empty them, except for one spare. The default segment of 2^17 ints
+ * (512 KiB) stays below G1's humongous-object threshold for 2 MiB and larger regions, so even multi-billion-element
+ * arrays are ordinary young-generation allocations instead of humongous objects that can trigger full GCs.
+ *
+ * <p>Inserts and deletes in the middle still shift the tail, but they do so with one {@code System.arraycopy}
+ * per segment-sized run instead of element by element (see {@link #move}).
+ */
+public class BigIntArray {
+    /** Default segment size: 2^17 ints, 512 KiB per segment. */
+    public static final int DEFAULT_SEGMENT_SHIFT = 17;
+
+    // Instance variables:
+    // segments: the storage; segments[s] is null until the size first reaches segment s, and again once it
+    //           drops out of reach (one empty spare segment past the last used one is kept).
+    // shift/mask/segmentSize: segment size as a power of two, used to split an index into segment and offset.
+    // size: the current number of elements.
+    // capacity: the maximum number of elements (set once in the constructor).
+    private final int[][] segments;
+    private final int shift;
+    private final int mask;
+    private final int segmentSize;
+    private long size;
+    private final long capacity;
+
+    /**
+     * Constructor: Initializes an empty array with the given capacity and the default segment size.
+     * No storage is allocated until elements are inserted.
+     *
+     * @param capacity the maximum number of elements that can be stored.
+     */
+    public BigIntArray(long capacity) {
+        this(capacity, DEFAULT_SEGMENT_SHIFT);
+    }
+
+    /**
+     * Constructor: Initializes an empty array with the given capacity and segment size.
+     *
+     * @param capacity     the maximum number of elements that can be stored.
+     * @param segmentShift log2 of the segment size in ints, between 1 and 30.
+     * @throws IllegalArgumentException if the segment shift is out of range, the capacity is negative,
+     *                                  or the capacity needs more than 2^31 - 1 segments.
+     */
+    public BigIntArray(long capacity, int segmentShift) {
+        if (segmentShift < 1 || segmentShift > 30) {
+            throw new IllegalArgumentException("Invalid segment shift: " + segmentShift);
+        }
+        var segmentCount = capacity < 0 ? -1 : (capacity + (1L << segmentShift) - 1) >>> segmentShift;
+        if (segmentCount < 0 || segmentCount > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Invalid capacity: " + capacity);
+        }
+        this.segments = new int[(int) segmentCount][];
+        this.shift = segmentShift;
+        this.segmentSize = 1 << segmentShift;
+        this.mask = segmentSize - 1;
+        this.capacity = capacity;
+    }
+
+    /** @return the number of elements currently stored. */
+    public long size() {
+        return size;
+    }
+
+    /** @return the maximum number of elements. */
+    public long capacity() {
+        return capacity;
+    }
+
+    /** @return the number of ints per segment. */
+    public int segmentSize() {
+        return segmentSize;
+    }
+
+    /**
+     * Inserts a value at the end of the array.
+     *
+     * @param value the integer value to insert.
+     * @return the index where the value was inserted, or -1 if the array is full.
+     */
+    public long insertAtEnd(int value) {
+        if (size >= capacity) {
+            System.out.println("Array is full");
+            return -1;
+        }
+        resize(size + 1);
+        set(size - 1, value);
+        return size - 1;
+    }
+
+    /**
+     * Inserts a value at the beginning of the array, shifting every element one position to the right.
+     *
+     * @param value the integer value to insert.
+     * @return 0, or -1 if the array is full.
+     */
+    public long insertAtBeginning(int value) {
+        return insertAtIndex(0, value);
+    }
+
+    /**
+     * Inserts a value at the specified index, shifting the elements from that index one position to the right.
+     *
+     * @param index the position (0 to size) at which to insert.
+     * @param value the integer value to insert.
+     * @return the index where the value was inserted, or -1 if the array is full or the index is invalid.
+     */
+    public long insertAtIndex(long index, int value) {
+        if (size >= capacity) {
+            System.out.println("Array is full");
+            return -1;
+        }
+        if (index < 0 || index > size) {
+            System.out.println("Invalid index");
+            return -1;
+        }
+        var tail = size - index;
+        resize(size + 1);
+        move(index, index + 1, tail);
+        set(index, value);
+        return index;
+    }
+
+    /**
+     * Inserts several values at the specified index with a single shift of the tail.
+     * Nothing is printed; failures are reported through the return value only.
+     *
+     * @param index  the position (0 to size) at which to insert.
+     * @param values the values to insert, in order.
+     * @return the number of inserted values, or -1 if the index is invalid or they do not fit.
+     */
+    public long insertAll(long index, int[] values) {
+        if (index < 0 || index > size || values.length > capacity - size) {
+            return -1;
+        }
+        var tail = size - index;
+        resize(size + values.length);
+        move(index, index + values.length, tail);
+        for (var done = 0; done < values.length; ) {
+            var at = index + done;
+            var n = Math.min(values.length - done, segmentSize - offset(at));
+            System.arraycopy(values, done, segments[segment(at)], offset(at), n);
+            done += n;
+        }
+        return values.length;
+    }
+
+    /**
+     * Replaces the value at the specified index.
+     *
+     * @param index the index to update (0 to size-1).
+     * @param value the new value.
+     * @return true if the update succeeded, false if the index is invalid.
+     */
+    public boolean updateValue(long index, int value) {
+        if (index < 0 || index >= size) {
+            System.out.println("Invalid index");
+            return false;
+        }
+        set(index, value);
+        return true;
+    }
+
+    /**
+     * Returns the value stored at a specified index (0 to size-1).
+     *
+     * @param index the index to read.
+     * @return the value at that index.
+     * @throws IndexOutOfBoundsException if the index is invalid.
+     */
+    public int get(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Invalid index: " + index);
+        }
+        return segments[segment(index)][offset(index)];
+    }
+
+    /**
+     * Deletes the element at the end of the array.
+     *
+     * @return the index the deleted element occupied (the new size), or -1 if the array is empty.
+     */
+    public long deleteAtEnd() {
+        if (size == 0) {
+            System.out.println("Array is empty");
+            return -1;
+        }
+        resize(size - 1);
+        return size;
+    }
+
+    /**
+     * Deletes the element at the beginning of the array, shifting the rest one position to the left.
+     *
+     * @return 0, or -1 if the array is empty.
+     */
+    public long deleteAtBeginning() {
+        if (size == 0) {
+            System.out.println("Array is empty");
+            return -1;
+        }
+        return deleteAtIndex(0);
+    }
+
+    /**
+     * Deletes the element at the specified index, shifting the elements after it one position to the left.
+     *
+     * @param index the index from which the element should be deleted.
+     * @return the index where deletion occurred, or -1 if the array is empty or the index is invalid.
+     */
+    public long deleteAtIndex(long index) {
+        if (size == 0) {
+            System.out.println("Array is empty");
+            return -1;
+        }
+        if (index < 0 || index >= size) {
+            System.out.println("Invalid Index");
+            return -1;
+        }
+        move(index + 1, index, size - index - 1);
+        resize(size - 1);
+        return index;
+    }
+
+    /**
+     * Deletes all elements in the index range [from, to) with a single shift of the tail.
+     * Nothing is printed; failures are reported through the return value only.
+     *
+     * @param from the first index to delete (inclusive).
+     * @param to   the end of the range (exclusive).
+     * @return the number of deleted elements, or -1 if the range is invalid.
+     */
+    public long deleteRange(long from, long to) {
+        if (from < 0 || to > size || from > to) {
+            return -1;
+        }
+        move(to, from, size - to);
+        resize(size - (to - from));
+        return to - from;
+    }
+
+    /**
+     * Deletes the first occurrence of the specified value.
+     *
+     * @param value the value to delete.
+     * @return the index from which the element was deleted, or -1 if the value is not found.
+     */
+    public long deleteByValue(int value) {
+        var index = indexOf(value);
+        if (index == -1) {
+            System.out.println("Value not found");
+            return -1;
+        }
+        return deleteAtIndex(index);
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value. Each segment is scanned with the same
+     * (vectorized when available) search as {@link ArrayDelete#indexOf(int)}.
+     *
+     * @param value the value to search for.
+     * @return the index of the first occurrence, or -1 if the value is not found.
+     */
+    public long indexOf(int value) {
+        for (var s = 0; s < usedSegments(); s++) {
+            var found = IntSearch.indexOf(segments[s], 0, lengthOf(s), value);
+            if (found != -1) {
+                return ((long) s << shift) + found;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Checks whether the array contains the specified value.
+     *
+     * @param value the value to search for.
+     * @return true if the value is present; false otherwise.
+     */
+    public boolean contains(int value) {
+        return indexOf(value) != -1;
+    }
+
+    /**
+     * Counts the occurrences of the specified value.
+     *
+     * @param value the value to count.
+     * @return the number of elements equal to value.
+     */
+    public long countOf(int value) {
+        var count = 0L;
+        for (var s = 0; s < usedSegments(); s++) {
+            count += IntSearch.countOf(segments[s], 0, lengthOf(s), value);
+        }
+        return count;
+    }
+
+    /**
+     * Deletes every element that matches the predicate in one compaction pass.
+     * Surviving elements keep their relative order; emptied segments are released.
+     *
+     * @param filter returns true for elements that should be deleted.
+     * @return the number of deleted elements.
+     */
+    public long removeIf(IntPredicate filter) {
+        var write = 0L;
+        var out = segments.length == 0 ? null : segments[0];
+        var outOffset = 0;
+        for (var s = 0; s < usedSegments(); s++) {
+            var segment = segments[s];
+            var length = lengthOf(s);
+            for (var i = 0; i < length; i++) {
+                var value = segment[i];
+                if (!filter.test(value)) {
+                    out[outOffset++] = value;
+                    write++;
+                    if (outOffset == segmentSize) {
+                        // The write position trails the read position, so the next segment is allocated
+                        // whenever anything is left to write into it.
+                        out = write < size ? segments[segment(write)] : null;
+                        outOffset = 0;
+                    }
+                }
+            }
+        }
+        var removed = size - write;
+        resize(write);
+        return removed;
+    }
+
+    /**
+     * Performs the action for every element from index 0 to size-1, one segment at a time.
+     *
+     * @param action the action to perform on each element.
+     */
+    public void forEach(IntConsumer action) {
+        for (var s = 0; s < usedSegments(); s++) {
+            var segment = segments[s];
+            var length = lengthOf(s);
+            for (var i = 0; i < length; i++) {
+                action.accept(segment[i]);
+            }
+        }
+    }
+
+    /**
+     * Returns a stream of the elements in index order. It is built per segment, so parallel streams split
+     * along segment boundaries.
+     *
+     * @return an IntStream over the current elements.
+     */
+    public IntStream intStream() {
+        return IntStream.range(0, usedSegments()).flatMap(s -> Arrays.stream(segments[s], 0, lengthOf(s)));
+    }
+
+    /**
+     * Prints the current elements of the array.
+     */
+    public void printArray() {
+        System.out.print("Current Array (size " + size + "): ");
+        forEach(value -> System.out.print(value + " "));
+        System.out.println();
+    }
+
+    /**
+     * Copies length elements from index from to index to, like System.arraycopy on one big array: overlapping
+     * ranges are handled by copying back to front when moving right and front to back when moving left.
+     * Every step copies the longest run that stays inside one source and one destination segment, so a shift
+     * by one costs about one arraycopy per segment.
+     */
+    private void move(long from, long to, long length) {
+        if (length == 0 || from == to) {
+            return;
+        }
+        if (to < from) {
+            for (var done = 0L; done < length; ) {
+                var src = from + done;
+                var dst = to + done;
+                var n = (int) Math.min(length - done, segmentSize - Math.max(offset(src), offset(dst)));
+                System.arraycopy(segments[segment(src)], offset(src), segments[segment(dst)], offset(dst), n);
+                done += n;
+            }
+        } else {
+            for (var remaining = length; remaining > 0; ) {
+                // Room before the (exclusive) end of each range within its segment.
+                var srcEnd = from + remaining;
+                var dstEnd = to + remaining;
+                var n = (int) Math.min(remaining, Math.min(offset(srcEnd - 1), offset(dstEnd - 1)) + 1);
+                System.arraycopy(segments[segment(srcEnd - n)], offset(srcEnd - n),
+                        segments[segment(dstEnd - n)], offset(dstEnd - n), n);
+                remaining -= n;
+            }
+        }
+    }
+
+    /**
+     * Sets the size, allocating segments it grows into and releasing segments it no longer reaches. One empty
+     * segment past the last used one is kept as a spare, so inserts and deletes that go back and forth across a
+     * segment boundary do not allocate and discard a whole segment each time.
+     */
+    private void resize(long newSize) {
+        var needed = (int) ((newSize + mask) >>> shift);
+        for (var s = usedSegments(); s < needed; s++) {
+            if (segments[s] == null) {
+                segments[s] = new int[segmentSize];
+            }
+        }
+        // Allocated segments are always contiguous from 0, so the first null ends the release.
+        for (var s = needed + 1; s < segments.length && segments[s] != null; s++) {
+            segments[s] = null;
+        }
+        size = newSize;
+    }
+
+    private void set(long index, int value) {
+        segments[segment(index)][offset(index)] = value;
+    }
+
+    /** @return the number of segments that hold at least one element. */
+    private int usedSegments() {
+        return (int) ((size + mask) >>> shift);
+    }
+
+    /** @return the number of elements stored in segment s. */
+    private int lengthOf(int s) {
+        return (int) Math.min(segmentSize, size - ((long) s << shift));
+    }
+
+    private int segment(long index) {
+        return (int) (index >>> shift);
+    }
+
+    private int offset(long index) {
+        return (int) index & mask;
+    }
+
+    /**
+     * Main method to test the operations with tiny 4-element segments, so that every shift crosses segments.
+     */
+    public static void main(String[] args) {
+        BigIntArray bigArray = new BigIntArray(12, 2);
+
+        // Test 1: Fill three segments.
+        System.out.println("Test: Insert at End");
+        for (var value = 1; value <= 9; value++) {
+            bigArray.insertAtEnd(value * 10);
+        }
+        bigArray.printArray();      // 10 20 30 40 50 60 70 80 90
+
+        // Test 2: Inserts that shift the tail across segment boundaries.
+        System.out.println("\nTest: Insert at Beginning and at Index 5");
+        bigArray.insertAtBeginning(0);
+        bigArray.insertAtIndex(5, 45);
+        bigArray.printArray();      // 0 10 20 30 40 45 50 60 70 80 90
+        System.out.println("Value at index 8: " + bigArray.get(8) + ", index of 80: " + bigArray.indexOf(80));
+
+        // Test 3: Overflow, invalid index and bulk insert.
+        System.out.println("\nTest: Overflow and Invalid Index");
+        System.out.println("Insert at index 20 returned: " + bigArray.insertAtIndex(20, 1));
+        bigArray.insertAtEnd(100);
+        System.out.println("Insert into full array returned: " + bigArray.insertAtEnd(110));
+        System.out.println("Insert all into full array returned: " + bigArray.insertAll(0, new int[]{1}));
+
+        // Test 4: Deletes, each shifting the tail left across segments.
+        System.out.println("\nTest: Deletes");
+        bigArray.deleteAtBeginning();
+        bigArray.deleteAtIndex(4);
+        bigArray.deleteByValue(70);
+        System.out.println("Deleted range [1, 3): " + bigArray.deleteRange(1, 3) + " elements");
+        bigArray.printArray();      // 10 40 50 60 80 90 100
+
+        // Test 5: Bulk insert and predicate delete, then traversal.
+        System.out.println("\nTest: Insert All, Remove If and Streams");
+        bigArray.insertAll(1, new int[]{20, 25, 30, 35});
+        System.out.println("Deleted values ending in 5: " + bigArray.removeIf(v -> v % 10 == 5) + " elements");
+        bigArray.printArray();      // 10 20 30 40 50 60 80 90 100
+        System.out.println("Sum: " + bigArray.intStream().sum() + ", count of 60: " + bigArray.countOf(60));
+    }
+}
@@ -0,0 +1,118 @@
+package com.gunapvkn.dsa.arrays.coreoperations;
+
+/**
+ * An immutable, search-only copy of a sorted int array stored in Eytzinger (BFS) order, as returned by
+ * {@link ArrayInsert#freeze()}.
+ *
+ * <p>The elements are laid out like an implicit binary search tree: the root sits at index 1 and the children of
+ * node {@code k} at {@code 2k} and {@code 2k + 1}. A lookup walks down with
+ * <pre>
+ *   k = 2 * k + (tree[k] &lt; x ? 1 : 0)
+ * </pre>
+ * which has no data-dependent branch (the comparison compiles to a conditional move), and the first few levels
+ * of the tree share a handful of cache lines that stay hot across lookups.
+ *
+ * <p>Java has no prefetch instruction, so every step also reads {@code tree[16k]}, the first of the 16
+ * descendants four levels down, which share one or two cache lines. The value is folded into the result in a
+ * way that never changes it, so the JIT cannot drop the load. Nothing waits on that load, so the CPU issues
+ * it early, and the line is usually in cache by the time the walk gets there. Without this, a branch-free
+ * walk over an array much larger than the cache loses the advantage a branchy binary search gets from
+ * speculative loads. For arrays that fit in cache, the walk avoids the branch mispredictions of a branchy
+ * search, whose outcome is a coin flip at every level.
+ *
+ * <p>After the walk, the bits of {@code k} record the path: a 1 for every right turn. Dropping the trailing
+ * ones and the last zero lands on the node where the search last turned left, the smallest element
+ * {@code >= x}. Dropping the trailing zeros and the last one lands on the node where it last turned right.
+ */
+public final class EytzingerIntArray {
+
+    /** Largest supported size; keeps {@code 2k + 1} within int range. */
+    static final int MAX_SIZE = 1 << 30;
+
+    // tree: the elements in BFS order at indices 1..size; index 0 is unused.
+    private final int[] tree;
+    private final int size;
+
+    /**
+     * Builds the layout from arr[0, size), which must be sorted in ascending order.
+     */
+    EytzingerIntArray(int[] arr, int size) {
+        if (size > MAX_SIZE) {
+            throw new IllegalArgumentException("Too many elements for an Eytzinger layout: " + size);
+        }
+        this.tree = new int[size + 1];
+        this.size = size;
+        fill(arr, 0, 1);
+    }
+
+    /** Places arr[next...] into the subtree rooted at k by an in-order walk. @return the next unused index. */
+    private int fill(int[] arr, int next, int k) {
+        if (k <= size) {
+            next = fill(arr, next, 2 * k);
+            tree[k] = arr[next++];
+            next = fill(arr, next, 2 * k + 1);
+        }
+        return next;
+    }
+
+    /** @return the number of elements. */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether the value is present.
+     * @param value the value to look for.
+     * @return true if some element equals value.
+     */
+    public boolean contains(int value) {
+        var k = lowerBound(value);
+        return k != 0 && tree[k] == value;
+    }
+
+    /**
+     * Returns the smallest element greater than or equal to the value.
+     * @param value the value to look up.
+     * @param valueIfAbsent the value to return if every element is smaller.
+     * @return the ceiling of value, or valueIfAbsent.
+     */
+    public int ceiling(int value, int valueIfAbsent) {
+        var k = lowerBound(value);
+        return k != 0 ? tree[k] : valueIfAbsent;
+    }
+
+    /**
+     * Returns the largest element less than or equal to the value.
+     * @param value the value to look up.
+     * @param valueIfAbsent the value to return if every element is larger.
+     * @return the floor of value, or valueIfAbsent.
+     */
+    public int floor(int value, int valueIfAbsent) {
+        var k = 1;
+        var prefetched = 0;
+        while (k <= size) {
+            prefetched ^= tree[prefetchIndex(k)];
+            k = 2 * k + (tree[k] <= value ? 1 : 0);
+        }
+        k >>>= Integer.numberOfTrailingZeros(k) + 1; // last right turn: the greatest element <= value
+        k = k == 0 && prefetched == value ? 0 : k;    // keeps the loads alive; k is unchanged
+        return k != 0 ? tree[k] : valueIfAbsent;
+    }
+
+    /** @return the tree index of the smallest element >= value, or 0 if there is none. */
+    private int lowerBound(int value) {
+        var k = 1;
+        var prefetched = 0;
+        while (k <= size) {
+            prefetched ^= tree[prefetchIndex(k)];
+            k = 2 * k + (tree[k] < value ? 1 : 0);
+        }
+        k >>>= Integer.numberOfTrailingZeros(~k) + 1; // last left turn
+        return k == 0 && prefetched == value ? 0 : k; // keeps the loads alive; k is unchanged
+    }
+
+    /** @return 16k, the first node four levels below k, clamped into the array without overflowing. */
+    private int prefetchIndex(int k) {
+        return Math.min(k, size >>> 4) << 4;
+    }
+}
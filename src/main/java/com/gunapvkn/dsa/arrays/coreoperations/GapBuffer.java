@@ -0,0 +1,237 @@
+package com.gunapvkn.dsa.arrays.coreoperations;
+
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * Gap-buffer storage shared by {@link ArrayInsert} and {@link ArrayDelete}.
+ *
+ * <p>The backing array holds the elements in two runs with an unused "gap" between them:
+ * <pre>
+ *   [ e0 e1 ... e(gapStart-1) | gap | e(gapStart) ... e(size-1) ]
+ *     0                  gapStart  gapEnd                  arr.length
+ * </pre>
+ * Inserting or deleting at logical index {@code i} first moves the gap to {@code i}, which copies only the
+ * elements between the old and the new gap position, and then grows or shrinks the gap by one slot.
+ * Consecutive edits at (or near) the same position therefore cost amortized O(1), while indexed reads
+ * and updates stay O(1) because a logical index maps to a physical one with a single comparison.
+ */
+final class GapBuffer {
+
+    // arr: the backing storage, including the gap.
+    // gapStart: physical index of the first free slot (also the logical index right after the gap).
+    // gapEnd: physical index of the first element after the gap (arr.length if the gap is at the end).
+    final int[] arr;
+    private int gapStart;
+    private int gapEnd;
+
+    /**
+     * Wraps an array whose first {@code size} slots hold elements; the rest becomes the gap.
+     *
+     * @param arr  the backing array.
+     * @param size the number of elements already stored at the front of {@code arr}.
+     */
+    GapBuffer(int[] arr, int size) {
+        this.arr = arr;
+        this.gapStart = size;
+        this.gapEnd = arr.length;
+    }
+
+    /** @return the number of stored elements (array length minus the gap). */
+    int size() {
+        return arr.length - (gapEnd - gapStart);
+    }
+
+    /** @return the number of free slots, i.e. the gap length. */
+    int free() {
+        return gapEnd - gapStart;
+    }
+
+    /** Maps a logical index (0 to size-1) to its slot in the backing array. */
+    int physical(int index) {
+        return index < gapStart ? index : index + (gapEnd - gapStart);
+    }
+
+    int get(int index) {
+        return arr[physical(index)];
+    }
+
+    void set(int index, int value) {
+        arr[physical(index)] = value;
+    }
+
+    /**
+     * Moves the gap so that it starts at the given logical index.
+     * Only the elements between the old and the new gap position are copied.
+     *
+     * @param index the new logical position of the gap (0 to size).
+     * @return the number of elements copied.
+     */
+    int moveGap(int index) {
+        var count = 0;
+        if (index < gapStart) {
+            // Gap moves left: the elements [index, gapStart) slide to the right end of the gap.
+            count = gapStart - index;
+            System.arraycopy(arr, index, arr, gapEnd - count, count);
+            gapStart = index;
+            gapEnd -= count;
+        } else if (index > gapStart) {
+            // Gap moves right: the elements after the gap slide left into its start.
+            count = index - gapStart;
+            System.arraycopy(arr, gapEnd, arr, gapStart, count);
+            gapStart = index;
+            gapEnd += count;
+        }
+        return count;
+    }
+
+    /**
+     * Inserts a value at a logical index. The caller checks that the gap is not empty
+     * and that the index is between 0 and size.
+     *
+     * @return the number of elements copied to move the gap.
+     */
+    int insert(int index, int value) {
+        var moved = moveGap(index);
+        arr[gapStart++] = value;
+        return moved;
+    }
+
+    /**
+     * Inserts all values at a logical index with a single gap move and one bulk copy.
+     * The caller checks that the gap can hold values.length more elements.
+     *
+     * @return the number of elements copied to move the gap.
+     */
+    int insertAll(int index, int[] values) {
+        var moved = moveGap(index);
+        System.arraycopy(values, 0, arr, gapStart, values.length);
+        gapStart += values.length;
+        return moved;
+    }
+
+    /**
+     * Deletes the logical range [from, to) by moving the gap to {@code from} and widening it.
+     * The caller checks that 0 &lt;= from &lt;= to &lt;= size.
+     *
+     * @return the number of elements copied to move the gap.
+     */
+    int deleteRange(int from, int to) {
+        var moved = moveGap(from);
+        gapEnd += to - from;
+        return moved;
+    }
+
+    /**
+     * Removes every element matching the predicate in one pass. The gap is first moved to the end
+     * so the elements are contiguous, then survivors are compacted towards the front.
+     *
+     * @return the number of removed elements.
+     */
+    int removeIf(IntPredicate filter) {
+        return compactWith((elements, length) -> compact(elements, length, filter));
+    }
+
+    /**
+     * Removes every element equal to one of the given values, like {@link #removeIf} but through
+     * {@link IntSearch#compactValues} so that the comparison can be vectorized.
+     *
+     * @return the number of removed elements.
+     */
+    int removeValues(int[] values) {
+        return compactWith((elements, length) -> IntSearch.compactValues(elements, length, values));
+    }
+
+    /**
+     * Removes every element matching the predicate, like {@link #removeIf} but split across the
+     * fork-join pool by {@link ParallelCompaction} when there are enough elements.
+     *
+     * @return the number of removed elements.
+     */
+    int removeIfParallel(IntPredicate filter) {
+        return compactWith((elements, length) -> ParallelCompaction.compact(elements, length, filter));
+    }
+
+    /** Moves the gap to the end, lets the compactor squeeze arr[0, size) and widens the gap by what it dropped. */
+    private int compactWith(Compactor compactor) {
+        moveGap(size());
+        var write = compactor.compact(arr, gapStart);
+        var removed = gapStart - write;
+        gapStart = write;
+        return removed;
+    }
+
+    /** An in-place compaction of arr[0, length) that returns the number of survivors. */
+    @FunctionalInterface
+    interface Compactor {
+        int compact(int[] arr, int length);
+    }
+
+    /**
+     * Compacts arr[0, length) in place, keeping the relative order of the elements that do not match.
+     * Elements before the first match are never written.
+     *
+     * @return the number of surviving elements, which now occupy arr[0, result).
+     */
+    static int compact(int[] arr, int length, IntPredicate filter) {
+        return compact(arr, 0, length, filter);
+    }
+
+    /**
+     * Compacts arr[from, to) in place, keeping the relative order of the elements that do not match.
+     *
+     * @return the end of the survivors, which now occupy arr[from, result).
+     */
+    static int compact(int[] arr, int from, int to, IntPredicate filter) {
+        var write = from;
+        while (write < to && !filter.test(arr[write])) {
+            write++;
+        }
+        for (var read = write + 1; read < to; read++) {
+            var value = arr[read];
+            if (!filter.test(value)) {
+                arr[write++] = value;
+            }
+        }
+        return write;
+    }
+
+    /**
+     * Deletes the element at a logical index. The caller checks that the index is between 0 and size-1.
+     * The gap is moved by the shorter distance: an element left of the gap is absorbed by its start,
+     * an element right of it by its end, so both backspace-style and forward deletes stay O(1).
+     *
+     * @return the number of elements copied to move the gap.
+     */
+    int delete(int index) {
+        if (index < gapStart) {
+            var moved = moveGap(index + 1);
+            gapStart--;
+            return moved;
+        }
+        var moved = moveGap(index);
+        gapEnd++;
+        return moved;
+    }
+
+    /** @return the logical index of the first occurrence of value, or -1 if it is absent. */
+    int indexOf(int value) {
+        var index = IntSearch.indexOf(arr, 0, gapStart, value);
+        if (index != -1) {
+            return index;
+        }
+        index = IntSearch.indexOf(arr, gapEnd, arr.length, value);
+        return index == -1 ? -1 : index - (gapEnd - gapStart);
+    }
+
+    /** @return the number of occurrences of value on both sides of the gap. */
+    int countOf(int value) {
+        return IntSearch.countOf(arr, 0, gapStart, value) + IntSearch.countOf(arr, gapEnd, arr.length, value);
+    }
+
+    /** @return the elements in logical order, skipping the gap. */
+    IntStream stream() {
+        return IntStream.concat(IntStream.range(0, gapStart), IntStream.range(gapEnd, arr.length))
+                .map(i -> arr[i]);
+    }
+}
@@ -0,0 +1,72 @@
+package com.gunapvkn.dsa.arrays.coreoperations;
+
+/**
+ * Linear search and multi-value compaction over int array ranges, shared by {@link ArrayDelete} and
+ * {@link GapBuffer}.
+ *
+ * <p>When the JVM is started with {@code --add-modules jdk.incubator.vector}, the work is done by the SIMD
+ * kernels in {@link VectorIntSearch}, which compare a whole vector of elements (8 ints on AVX2) per
+ * instruction. Otherwise, or when {@code -Ddsa.vector.disable=true} is set, the plain scalar loops below
+ * are used. Results are identical either way.
+ */
+final class IntSearch {
+
+    /** true if the vector kernels are used; decided once when the class is loaded. */
+    static final boolean VECTORIZED = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()
+            && !Boolean.getBoolean("dsa.vector.disable");
+
+    private IntSearch() {
+    }
+
+    /** @return the index of the first occurrence of value in arr[from, to), or -1 if it is absent. */
+    static int indexOf(int[] arr, int from, int to, int value) {
+        if (VECTORIZED) {
+            return VectorIntSearch.indexOf(arr, from, to, value);
+        }
+        for (var i = from; i < to; i++) {
+            if (arr[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /** @return the number of occurrences of value in arr[from, to). */
+    static int countOf(int[] arr, int from, int to, int value) {
+        if (VECTORIZED) {
+            return VectorIntSearch.countOf(arr, from, to, value);
+        }
+        var count = 0;
+        for (var i = from; i < to; i++) {
+            if (arr[i] == value) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Compacts arr[0, length) in place, dropping every element equal to one of the given values and
+     * keeping the relative order of the rest. Meant for a handful of values: each element is compared
+     * against all of them.
+     *
+     * @param values the values to drop; must not be empty.
+     * @return the number of surviving elements, which now occupy arr[0, result).
+     */
+    static int compactValues(int[] arr, int length, int[] values) {
+        if (VECTORIZED) {
+            return VectorIntSearch.compactValues(arr, length, values);
+        }
+        return GapBuffer.compact(arr, length, element -> contains(values, element));
+    }
+
+    /** @return true if value is one of values (linear scan). */
+    static boolean contains(int[] values, int value) {
+        for (var candidate : values) {
+            if (candidate == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
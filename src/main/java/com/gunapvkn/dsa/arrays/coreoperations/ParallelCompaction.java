@@ -0,0 +1,92 @@
+package com.gunapvkn.dsa.arrays.coreoperations;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntPredicate;
+
+/**
+ * Parallel in-place version of {@link GapBuffer#compact(int[], int, IntPredicate)} for very large arrays.
+ *
+ * <p>The range is cut into fixed-size chunks, a few per worker thread, and a {@link RecursiveAction}
+ * splits the chunk list in halves until each task owns a single chunk:
+ * <ol>
+ *   <li>Each task tests its chunk against the predicate and compacts the survivors to the front of
+ *       that chunk, recording how many it kept. This is where the predicate runs, so it scales with the cores.</li>
+ *   <li>A prefix sum over the per-chunk counts gives each chunk's destination offset.</li>
+ *   <li>The surviving run of every chunk is moved to its offset with one {@code System.arraycopy}, in chunk order.
+ *       A destination can overlap the still-unmoved survivors of earlier chunks, so this step stays sequential.
+ *       It is a plain memory copy of the survivors only.</li>
+ * </ol>
+ * Below {@link #PARALLEL_THRESHOLD} elements, or without spare workers, the sequential compaction is used.
+ */
+final class ParallelCompaction extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    /** Smallest length that is split across the pool; shorter ranges are compacted on the calling thread. */
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    /** Smallest chunk handed to a task, so that task overhead stays negligible next to the scan. */
+    private static final int MIN_CHUNK = 1 << 14;
+
+    // arr/filter: the array being compacted and the predicate for elements to drop.
+    // length/chunkSize: the compacted range arr[0, length) and the size of every chunk but the last.
+    // counts: survivors per chunk, filled in by the leaf tasks.
+    // lo/hi: the chunk indices [lo, hi) owned by this task.
+    private final int[] arr;
+    private final transient IntPredicate filter;
+    private final int length;
+    private final int chunkSize;
+    private final int[] counts;
+    private final int lo;
+    private final int hi;
+
+    private ParallelCompaction(int[] arr, IntPredicate filter, int length, int chunkSize, int[] counts, int lo, int hi) {
+        this.arr = arr;
+        this.filter = filter;
+        this.length = length;
+        this.chunkSize = chunkSize;
+        this.counts = counts;
+        this.lo = lo;
+        this.hi = hi;
+    }
+
+    /**
+     * Compacts arr[0, length) in place on the common fork-join pool, dropping elements that match the filter
+     * and keeping the relative order of the rest. The filter is called from several threads at once.
+     *
+     * @return the number of surviving elements, which now occupy arr[0, result).
+     */
+    static int compact(int[] arr, int length, IntPredicate filter) {
+        var pool = ForkJoinPool.commonPool();
+        var parallelism = pool.getParallelism();
+        if (length < PARALLEL_THRESHOLD || parallelism < 2) {
+            return GapBuffer.compact(arr, length, filter);
+        }
+        var chunkSize = Math.max(MIN_CHUNK, (int) ((length + 4L * parallelism - 1) / (4L * parallelism)));
+        var chunks = (int) (((long) length + chunkSize - 1) / chunkSize);
+        var counts = new int[chunks];
+        pool.invoke(new ParallelCompaction(arr, filter, length, chunkSize, counts, 0, chunks));
+
+        // Prefix sum of the counts gives each chunk's destination; chunk 0 is already in place.
+        var write = counts[0];
+        for (var chunk = 1; chunk < chunks; chunk++) {
+            System.arraycopy(arr, chunk * chunkSize, arr, write, counts[chunk]);
+            write += counts[chunk];
+        }
+        return write;
+    }
+
+    @Override
+    protected void compute() {
+        if (hi - lo == 1) {
+            var from = lo * chunkSize;
+            var to = (int) Math.min(length, (long) from + chunkSize);
+            counts[lo] = GapBuffer.compact(arr, from, to, filter) - from;
+            return;
+        }
+        var mid = (lo + hi) >>> 1;
+        invokeAll(new ParallelCompaction(arr, filter, length, chunkSize, counts, lo, mid),
+                new ParallelCompaction(arr, filter, length, chunkSize, counts, mid, hi));
+    }
+}
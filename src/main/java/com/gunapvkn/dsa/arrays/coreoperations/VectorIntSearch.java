@@ -0,0 +1,101 @@
+package com.gunapvkn.dsa.arrays.coreoperations;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD kernels behind {@link IntSearch}, written against the incubating Vector API.
+ *
+ * <p>This class references {@code jdk.incubator.vector} types, so it must only be loaded when that module is
+ * in the boot layer (the JVM was started with {@code --add-modules jdk.incubator.vector}). {@link IntSearch}
+ * checks this once and never touches this class otherwise.
+ *
+ * <p>Every kernel walks whole vectors of {@link #SPECIES} up to {@code loopBound} and finishes the last
+ * few elements with a scalar loop.
+ */
+final class VectorIntSearch {
+
+    // SPECIES: the widest int vector the CPU supports (8 lanes on AVX2, 16 on AVX-512).
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+
+    private VectorIntSearch() {
+    }
+
+    static int indexOf(int[] arr, int from, int to, int value) {
+        var i = from;
+        var bound = from + SPECIES.loopBound(to - from);
+        for (; i < bound; i += LANES) {
+            var hits = IntVector.fromArray(SPECIES, arr, i).eq(value);
+            if (hits.anyTrue()) {
+                return i + hits.firstTrue();
+            }
+        }
+        for (; i < to; i++) {
+            if (arr[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int countOf(int[] arr, int from, int to, int value) {
+        var i = from;
+        var bound = from + SPECIES.loopBound(to - from);
+        var count = 0;
+        for (; i < bound; i += LANES) {
+            count += IntVector.fromArray(SPECIES, arr, i).eq(value).trueCount();
+        }
+        for (; i < to; i++) {
+            if (arr[i] == value) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Vector version of {@link IntSearch#compactValues}. Blocks without a match are moved with one vector
+     * store (or not at all, before the first match); only blocks that contain a match fall back to
+     * per-lane copying.
+     */
+    static int compactValues(int[] arr, int length, int[] values) {
+        var read = 0;
+        var bound = SPECIES.loopBound(length);
+        while (read < bound && !matches(IntVector.fromArray(SPECIES, arr, read), values).anyTrue()) {
+            read += LANES;
+        }
+        var write = read;
+        for (; read < bound; read += LANES) {
+            var block = IntVector.fromArray(SPECIES, arr, read);
+            var hits = matches(block, values);
+            if (!hits.anyTrue()) {
+                block.intoArray(arr, write);
+                write += LANES;
+                continue;
+            }
+            // write <= read + lane, so every store lands on a slot that has already been read.
+            for (var lane = 0; lane < LANES; lane++) {
+                if (!hits.laneIsSet(lane)) {
+                    arr[write++] = arr[read + lane];
+                }
+            }
+        }
+        for (; read < length; read++) {
+            var value = arr[read];
+            if (!IntSearch.contains(values, value)) {
+                arr[write++] = value;
+            }
+        }
+        return write;
+    }
+
+    private static VectorMask<Integer> matches(IntVector block, int[] values) {
+        var hits = block.eq(values[0]);
+        for (var k = 1; k < values.length; k++) {
+            hits = hits.or(block.eq(values[k]));
+        }
+        return hits;
+    }
+}
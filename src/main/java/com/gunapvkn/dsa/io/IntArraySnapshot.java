@@ -0,0 +1,164 @@
+package com.gunapvkn.dsa.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Binary snapshot files for int-array backed data structures such as {@code ArrayStack},
+ * {@code ArrayInsert} and {@code ArrayDelete}.
+ *
+ * <p>A snapshot is a fixed 32-byte header followed by the live prefix of the backing array as raw
+ * little-endian ints:
+ * <pre>
+ *   [ magic | version | flags | capacity | length | reserved ... ][ arr[0] ... arr[length-1] ]
+ * </pre>
+ * {@link #write} copies the array into a direct buffer a few MiB at a time and hands each chunk to
+ * {@link FileChannel#write}, so there is no per-element formatting or object stream overhead. {@link #read}
+ * maps the file and copies straight from the page cache into a new {@code int[]}. {@link #map} skips that
+ * copy and returns a read-only view of the stored ints for callers that only need to read them.
+ */
+public final class IntArraySnapshot {
+
+    /** Flag bit: the structure was using gap-buffer storage when it was saved. */
+    public static final int FLAG_GAP_BUFFER = 1;
+
+    /** Flag bit: the elements are kept in ascending order (sorted mode). */
+    public static final int FLAG_SORTED = 2;
+
+    private static final int MAGIC = 0x44534149;          // "DSAI"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 32;
+    private static final int WRITE_CHUNK_INTS = 1 << 21;  // 8 MiB staging buffer for writes
+    private static final int MAP_CHUNK_INTS = 1 << 28;    // 1 GiB per mapping when reading
+
+    private IntArraySnapshot() {
+    }
+
+    /**
+     * The contents of a snapshot file.
+     *
+     * @param arr    a new array of the saved capacity whose first {@code length} slots hold the saved elements
+     * @param length the number of saved elements
+     * @param flags  the flag bits passed to {@link #write}
+     */
+    public record Contents(int[] arr, int length, int flags) {
+    }
+
+    /**
+     * Writes {@code arr[0, length)} and its metadata to a file, replacing any existing file.
+     * The data goes to a temporary file in the same directory that is forced to disk and then renamed
+     * over {@code path}, so a crash mid-write leaves the previous snapshot intact.
+     *
+     * @param path     the snapshot file
+     * @param arr      the backing array
+     * @param length   the number of live elements at the front of {@code arr}
+     * @param capacity the capacity to restore with (at least {@code length})
+     * @param flags    structure-specific flag bits, returned unchanged by {@link #read}
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(Path path, int[] arr, int length, int capacity, int flags) throws IOException {
+        if (length < 0 || length > arr.length || capacity < length) {
+            throw new IllegalArgumentException("Invalid length " + length + " for capacity " + capacity);
+        }
+        var temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (var channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            var header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC).putInt(VERSION).putInt(flags).putInt(capacity).putInt(length).rewind();
+            writeFully(channel, header);
+
+            var staging = ByteBuffer.allocateDirect(Math.min(length, WRITE_CHUNK_INTS) * Integer.BYTES)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            var ints = staging.asIntBuffer();
+            for (var offset = 0; offset < length; ) {
+                var count = Math.min(length - offset, WRITE_CHUNK_INTS);
+                ints.clear();
+                ints.put(arr, offset, count);
+                staging.clear().limit(count * Integer.BYTES);
+                writeFully(channel, staging);
+                offset += count;
+            }
+            channel.force(false);
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Reads a snapshot file into a new array of the saved capacity.
+     *
+     * @param path the snapshot file
+     * @return the saved elements, length and flags
+     * @throws IOException if the file cannot be read or is not a valid snapshot
+     */
+    public static Contents read(Path path) throws IOException {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            var header = readHeader(path, channel);
+            var capacity = header.getInt(12);
+            var length = header.getInt(16);
+            var arr = new int[capacity];
+            for (var offset = 0; offset < length; ) {
+                var count = Math.min(length - offset, MAP_CHUNK_INTS);
+                channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES + (long) offset * Integer.BYTES,
+                                (long) count * Integer.BYTES)
+                        .order(ByteOrder.LITTLE_ENDIAN)
+                        .asIntBuffer()
+                        .get(arr, offset, count);
+                offset += count;
+            }
+            return new Contents(arr, length, header.getInt(8));
+        }
+    }
+
+    /**
+     * Maps the saved elements of a snapshot file read-only without copying them onto the heap.
+     * The view stays valid after the file is closed; pages are loaded lazily as they are read.
+     *
+     * @param path the snapshot file
+     * @return a read-only view whose {@code limit()} is the number of saved elements
+     * @throws IOException if the file cannot be read, is not a valid snapshot, or holds more than 2 GiB of data
+     */
+    public static IntBuffer map(Path path) throws IOException {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            var length = readHeader(path, channel).getInt(16);
+            if ((long) length * Integer.BYTES > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot " + path + " is too large to map as one buffer; use read()");
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES, (long) length * Integer.BYTES)
+                    .order(ByteOrder.LITTLE_ENDIAN)
+                    .asIntBuffer();
+        }
+    }
+
+    /** Reads and validates the header, including that the file holds exactly {@code length} ints. */
+    private static ByteBuffer readHeader(Path path, FileChannel channel) throws IOException {
+        var header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        while (header.hasRemaining()) {
+            if (channel.read(header) < 0) {
+                throw new IOException("Not a snapshot file: " + path);
+            }
+        }
+        var capacity = header.getInt(12);
+        var length = header.getInt(16);
+        if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+            throw new IOException("Not a snapshot file: " + path);
+        }
+        if (length < 0 || capacity < length
+                || channel.size() != HEADER_BYTES + (long) length * Integer.BYTES) {
+            throw new IOException("Corrupt snapshot file: " + path);
+        }
+        return header;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
@@ -0,0 +1,456 @@
+package com.gunapvkn.dsa.linkedlist.coreoperations;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A doubly‑linked list of ints whose nodes live in an <em>arena</em>: three parallel
+ * <code>int[]</code> arrays holding the value, next index and previous index of each
+ * node. There are no per‑element objects. Links are array indices, and the garbage
+ * collector sees three arrays however long the list is, instead of one
+ * <code>Node</code> per element.
+ *
+ * <p>Each node is identified by its slot index, its <em>handle</em>. Every insert
+ * returns the handle of the new node, and {@link #remove(int)},
+ * {@link #insertAfter(int, int)} and {@link #insertBefore(int, int)} take one, so
+ * nodes can be removed or linked next to in O(1), for example from an index kept
+ * beside the list. Slots of removed nodes go on a free‑list threaded through
+ * <code>next</code> and are reused before the arrays grow. A handle is therefore
+ * only valid until its node is removed; after that the slot may hold a different
+ * node.
+ *
+ * <p>Compared with {@link SinglyLinkedList}, both ends are O(1) for inserts
+ * <em>and</em> deletes (<code>deleteAtLast</code> no longer walks the list), and
+ * positional access walks from whichever end is nearer. The method names, 1‑based
+ * positions and messages for invalid input are the same.
+ */
+public class ArenaLinkedList {
+
+    /** The "null" link: no next or previous node. */
+    public static final int NIL = -1;
+
+    /** Marks a slot on the free‑list in <code>prev</code>, so stale handles are rejected. */
+    private static final int FREE = -2;
+
+    /** Largest arena the arrays can grow to. */
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /** value[h], next[h] and prev[h] describe the node with handle h. */
+    private int[] value;
+    private int[] next;
+    private int[] prev;
+
+    /** Handle of the first / last node (NIL when the list is empty). */
+    private int head = NIL;
+    private int tail = NIL;
+
+    /** Cached length of the list. */
+    private int size;
+
+    /** First slot of the free‑list of removed nodes, linked through next[] (NIL if none). */
+    private int freeHead = NIL;
+
+    /** Slots [0, used) have been handed out at least once; the rest have never been used. */
+    private int used;
+
+    // ───────────────────────────────────────────────── Constructors ────────────
+
+    public ArenaLinkedList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param initialCapacity number of nodes the arena holds before it first grows
+     * @throws IllegalArgumentException if initialCapacity is negative
+     */
+    public ArenaLinkedList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Invalid capacity: " + initialCapacity);
+        }
+        value = new int[initialCapacity];
+        next = new int[initialCapacity];
+        prev = new int[initialCapacity];
+    }
+
+    // ──────────────────────────────────────────────── State helpers ───────────
+
+    /** @return <code>true</code> when the list has no elements. */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** @return current number of nodes. */
+    public int size() {
+        return size;
+    }
+
+    /** @return number of slots in the arena, used or free. */
+    public int capacity() {
+        return value.length;
+    }
+
+    /**
+     * Returns the first value in O(1).
+     * @param valueIfEmpty value to return for the empty list
+     */
+    public int getFirst(int valueIfEmpty) {
+        return head != NIL ? value[head] : valueIfEmpty;
+    }
+
+    /**
+     * Returns the last value in O(1).
+     * @param valueIfEmpty value to return for the empty list
+     */
+    public int getLast(int valueIfEmpty) {
+        return tail != NIL ? value[tail] : valueIfEmpty;
+    }
+
+    // ──────────────────────────────────────────────── Handle access ───────────
+
+    /** @return handle of the first node, or {@link #NIL} if the list is empty. */
+    public int firstHandle() {
+        return head;
+    }
+
+    /** @return handle of the last node, or {@link #NIL} if the list is empty. */
+    public int lastHandle() {
+        return tail;
+    }
+
+    /** @return handle of the node after <code>handle</code>, or {@link #NIL} at the tail. */
+    public int nextHandle(int handle) {
+        return next[checkHandle(handle)];
+    }
+
+    /** @return handle of the node before <code>handle</code>, or {@link #NIL} at the head. */
+    public int previousHandle(int handle) {
+        return prev[checkHandle(handle)];
+    }
+
+    /** @return the value stored in the node with this handle. */
+    public int get(int handle) {
+        return value[checkHandle(handle)];
+    }
+
+    /** Replaces the value stored in the node with this handle. */
+    public void set(int handle, int newValue) {
+        value[checkHandle(handle)] = newValue;
+    }
+
+    // ─────────────────────────────────────────────────── Insertions ────────────
+
+    /** Inserts a node at the very front in O(1). @return its handle */
+    public int insertAtBeginning(int newValue) {
+        return link(newValue, NIL, head);
+    }
+
+    /** Inserts a node at the tail in O(1). @return its handle */
+    public int insertAtLast(int newValue) {
+        return link(newValue, tail, NIL);
+    }
+
+    /** Inserts a node right after the node with the given handle in O(1). @return its handle */
+    public int insertAfter(int handle, int newValue) {
+        checkHandle(handle);
+        return link(newValue, handle, next[handle]);
+    }
+
+    /** Inserts a node right before the node with the given handle in O(1). @return its handle */
+    public int insertBefore(int handle, int newValue) {
+        checkHandle(handle);
+        return link(newValue, prev[handle], handle);
+    }
+
+    /**
+     * Inserts a node at a 1‑based position, walking from the nearer end.
+     * @param position 1 ≤ position ≤ size + 1
+     * @return the handle of the new node, or {@link #NIL} for an invalid position
+     */
+    public int insertAtPosition(int position, int newValue) {
+        if (position < 1 || position > size + 1) {
+            System.out.println("Invalid Position");
+            return NIL;
+        }
+        if (position == size + 1) {
+            return insertAtLast(newValue);
+        }
+        return insertBefore(handleAt(position), newValue);
+    }
+
+    // ─────────────────────────────────────────────────── Deletions ────────────
+
+    /** Deletes the head node in O(1). */
+    public void deleteAtBeginning() {
+        if (isEmpty()) {
+            System.out.println("Linked List Is Empty");
+            return;
+        }
+        unlink(head);
+    }
+
+    /** Deletes the tail node in O(1); the previous link makes the walk unnecessary. */
+    public void deleteAtLast() {
+        if (isEmpty()) {
+            System.out.println("Linked List Is Empty");
+            return;
+        }
+        unlink(tail);
+    }
+
+    /**
+     * Deletes the node at a 1‑based position, walking from the nearer end.
+     * @param position 1 ≤ position ≤ size
+     */
+    public void deleteAtPosition(int position) {
+        if (position < 1 || position > size) {
+            System.out.println("Invalid Position");
+            return;
+        }
+        unlink(handleAt(position));
+    }
+
+    /**
+     * Removes the node with the given handle in O(1); its slot is recycled.
+     * @return the value it held
+     * @throws IllegalArgumentException if the handle does not refer to a node in the list
+     */
+    public int remove(int handle) {
+        var removed = value[checkHandle(handle)];
+        unlink(handle);
+        return removed;
+    }
+
+    /** Removes every node in O(1); the arena keeps its capacity and is reused from slot 0. */
+    public void clear() {
+        head = tail = freeHead = NIL;
+        size = used = 0;
+    }
+
+    // ─────────────────────────────────────────────── Bulk operations ──────────
+
+    /** Reverses the list in place in O(n) by swapping every node's next and prev links. */
+    public void reverse() {
+        for (var h = head; h != NIL; h = prev[h]) { // prev[h] is the old next after the swap
+            var oldNext = next[h];
+            next[h] = prev[h];
+            prev[h] = oldNext;
+        }
+        var oldHead = head;
+        head = tail;
+        tail = oldHead;
+    }
+
+    // ───────────────────────────────────────────── Iteration & streams ───────
+
+    /**
+     * @return an iterator from head to tail; it does not support <code>remove()</code>.
+     *         Structural changes while iterating are not detected.
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private int current = head;
+
+            @Override
+            public boolean hasNext() {
+                return current != NIL;
+            }
+
+            @Override
+            public int nextInt() {
+                if (current == NIL) {
+                    throw new NoSuchElementException();
+                }
+                var result = value[current];
+                current = next[current];
+                return result;
+            }
+        };
+    }
+
+    /**
+     * Returns an ORDERED, SIZED and SUBSIZED spliterator from head to tail that splits by
+     * copying batches of values into arrays, like {@link SinglyLinkedList#spliterator()}.
+     */
+    public Spliterator.OfInt spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED);
+    }
+
+    /** @return a sequential stream from head to tail; call <code>parallel()</code> to split it. */
+    public IntStream intStream() {
+        return StreamSupport.intStream(spliterator(), false);
+    }
+
+    // ─────────────────────────────────────────────────── Utilities ────────────
+
+    /** Prints the list contents from head to tail. */
+    public void printList() {
+        for (var h = head; h != NIL; h = next[h]) {
+            System.out.print(value[h] + " ");
+        }
+        System.out.println();
+    }
+
+    // ───────────────────────────────────────────────── Arena internals ────────
+
+    /** Takes a slot, fills it and links it between <code>before</code> and <code>after</code>. */
+    private int link(int newValue, int before, int after) {
+        var h = allocate();
+        value[h] = newValue;
+        prev[h] = before;
+        next[h] = after;
+        if (before == NIL) {
+            head = h;
+        } else {
+            next[before] = h;
+        }
+        if (after == NIL) {
+            tail = h;
+        } else {
+            prev[after] = h;
+        }
+        size++;
+        return h;
+    }
+
+    /** Unlinks a valid node and pushes its slot onto the free‑list. */
+    private void unlink(int h) {
+        var before = prev[h];
+        var after = next[h];
+        if (before == NIL) {
+            head = after;
+        } else {
+            next[before] = after;
+        }
+        if (after == NIL) {
+            tail = before;
+        } else {
+            prev[after] = before;
+        }
+        prev[h] = FREE;
+        next[h] = freeHead;
+        freeHead = h;
+        size--;
+    }
+
+    /** @return a free slot: a recycled one if any, else the next never‑used one, growing the arrays if needed. */
+    private int allocate() {
+        if (freeHead != NIL) {
+            var h = freeHead;
+            freeHead = next[h];
+            return h;
+        }
+        if (used == value.length) {
+            grow();
+        }
+        return used++;
+    }
+
+    /** Doubles the three arrays (at least by one slot). */
+    private void grow() {
+        if (value.length == MAX_CAPACITY) {
+            throw new RuntimeException("List is full");
+        }
+        var capacity = (int) Math.min(MAX_CAPACITY, Math.max(DEFAULT_CAPACITY, 2L * value.length));
+        value = Arrays.copyOf(value, capacity);
+        next = Arrays.copyOf(next, capacity);
+        prev = Arrays.copyOf(prev, capacity);
+    }
+
+    /** @return the handle of the node at a valid 1‑based position, walking from the nearer end. */
+    private int handleAt(int position) {
+        if (position <= (size + 1) / 2) {
+            var h = head;
+            for (var i = 1; i < position; i++) {
+                h = next[h];
+            }
+            return h;
+        }
+        var h = tail;
+        for (var i = size; i > position; i--) {
+            h = prev[h];
+        }
+        return h;
+    }
+
+    private int checkHandle(int handle) {
+        if (handle < 0 || handle >= used || prev[handle] == FREE) {
+            throw new IllegalArgumentException("Invalid handle: " + handle);
+        }
+        return handle;
+    }
+}
+
+// ──────────────────────────────────────────────── Demo / Test ────────────────
+
+/**
+ * Demo harness for {@link ArenaLinkedList}: exercises every public operation and
+ * prints the list after each step.
+ */
+class ArenaLinkedListDemo {
+    public static void main(String[] args) {
+        var list = new ArenaLinkedList(4);
+
+        System.out.println("\n▶ Inserting 3, 2, 1 at the beginning and 4, 5 at the end:");
+        list.insertAtBeginning(3);
+        list.insertAtBeginning(2);
+        list.insertAtBeginning(1);
+        list.insertAtLast(4);
+        var five = list.insertAtLast(5); // arena grows from 4 to 16 slots
+        list.printList(); // 1 2 3 4 5
+        System.out.println("Capacity = " + list.capacity()); // 16
+
+        System.out.println("\n▶ Inserting 99 at position 3 and 42 before the node holding 5:");
+        var ninetyNine = list.insertAtPosition(3, 99);
+        list.insertBefore(five, 42);
+        list.printList(); // 1 2 99 3 4 42 5
+
+        System.out.println("\n▶ Removing the 99 node by handle:");
+        System.out.println("Removed value = " + list.remove(ninetyNine)); // 99
+        list.printList(); // 1 2 3 4 42 5
+
+        System.out.println("\n▶ Deleting at beginning, at last (O(1)) and at position 2:");
+        list.deleteAtBeginning();
+        list.deleteAtLast();
+        list.deleteAtPosition(2);
+        list.printList(); // 2 4 42
+
+        System.out.println("\n▶ Reusing freed slots: the next insert takes a recycled handle:");
+        var recycled = list.insertAtLast(7);
+        System.out.println("Handle = " + recycled + ", capacity still " + list.capacity());
+        list.printList(); // 2 4 42 7
+
+        System.out.println("\n▶ Invalid input:");
+        list.insertAtPosition(10, 123); // should warn
+        try {
+            list.remove(ninetyNine);   // already removed; its slot is on the free-list
+        } catch (IllegalArgumentException e) {
+            System.out.println("Caught exception: " + e.getMessage());
+        }
+
+        System.out.println("\n▶ Reversing and walking by handle from the tail:");
+        list.reverse();
+        list.printList(); // 7 42 4 2
+        var backwards = new StringBuilder();
+        for (var h = list.lastHandle(); h != ArenaLinkedList.NIL; h = list.previousHandle(h)) {
+            backwards.append(list.get(h)).append(' ');
+        }
+        System.out.println(backwards.toString().trim()); // 2 4 42 7
+
+        System.out.println("\n▶ Streaming:");
+        System.out.println("Sum = " + list.intStream().parallel().sum()); // 55
+
+        System.out.println("\n▶ Clearing from the tail:");
+        while (!list.isEmpty()) {
+            list.deleteAtLast();
+        }
+        list.printList(); // empty line
+        System.out.println("Size after clear = " + list.size() + ", first = " + list.getFirst(-1)); // 0, -1
+    }
+}
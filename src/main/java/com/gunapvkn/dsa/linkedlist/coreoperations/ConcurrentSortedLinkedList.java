@@ -0,0 +1,321 @@
+package com.gunapvkn.dsa.linkedlist.coreoperations;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.SplittableRandom;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A lock‑free sorted set of ints kept in a singly‑linked list, safe for any number
+ * of threads adding, removing and reading at the same time.
+ *
+ * <p>The algorithm is Harris's ("A Pragmatic Implementation of Non‑Blocking
+ * Linked‑Lists", DISC 2001). Inserting is one CAS on the predecessor's
+ * <code>next</code>. Removing takes two steps:
+ * <ol>
+ *   <li><em>logical</em> deletion marks the node's own <code>next</code> link, so no
+ *       node can be inserted after it any more;</li>
+ *   <li><em>physical</em> deletion CASes the predecessor past it. Any thread that
+ *       walks over a marked node does this too, so a stalled remover never leaves
+ *       garbage behind.</li>
+ * </ol>
+ *
+ * <p>Java cannot steal a bit from a reference. As in
+ * {@link java.util.concurrent.ConcurrentSkipListMap}, the mark is therefore a
+ * <em>marker node</em> CASed in between the deleted node and its successor: a node
+ * is deleted exactly when its <code>next</code> is a marker. A marked link never
+ * changes again, so a CAS on a deleted predecessor fails and the operation starts
+ * over. Only a removal allocates a marker, whereas <code>AtomicMarkableReference</code>
+ * would allocate on every link change.
+ *
+ * <p><code>contains</code> is wait‑free and never writes. Iterators and streams are
+ * weakly consistent: they never throw and never return a value twice, and they see
+ * every value present for the whole iteration, but may or may not see concurrent
+ * changes.
+ */
+public class ConcurrentSortedLinkedList {
+
+    private static final VarHandle NEXT;
+
+    static {
+        try {
+            NEXT = MethodHandles.lookup().findVarHandle(Node.class, "next", Node.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /** Sentinel in front of the smallest value; never deleted, its value is unused */
+    private final Node head = new Node(0, null);
+
+    /** Element count, striped so that it does not become a shared hotspot */
+    private final LongAdder count = new LongAdder();
+
+    /**
+     * @return a snapshot of the number of values; under concurrent updates it may be
+     *         momentarily off by the number of in‑flight operations
+     */
+    public int size() {
+        return (int) Math.max(0, count.sum());
+    }
+
+    /** @return {@code true} if the set had no values at the time of the call */
+    public boolean isEmpty() {
+        return successor(head) == null;
+    }
+
+    /**
+     * Adds a value if it is not already present. Lock‑free.
+     *
+     * @param value value to add
+     * @return {@code true} if the value was added, {@code false} if it was present
+     */
+    public boolean add(int value) {
+        var window = new Window();
+        while (true) {
+            find(value, window);
+            var current = window.current;
+            if (current != null && current.value == value) {
+                return false;
+            }
+            var node = new Node(value, current);
+            // Fails if pred was marked or something was linked in after it; then search again.
+            if (NEXT.compareAndSet(window.pred, current, node)) {
+                count.increment();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Removes a value if it is present. Lock‑free.
+     *
+     * @param value value to remove
+     * @return {@code true} if this call removed the value, {@code false} if it was absent
+     *         (or another thread removed it first)
+     */
+    public boolean remove(int value) {
+        var window = new Window();
+        while (true) {
+            find(value, window);
+            var current = window.current;
+            if (current == null || current.value != value) {
+                return false;
+            }
+            var next = current.next;
+            if (next instanceof Marker) {
+                continue; // lost to another remover; find() will unlink it and report absence
+            }
+            // Logical deletion: whoever installs the marker owns the removal.
+            if (NEXT.compareAndSet(current, next, new Marker(next))) {
+                count.decrement();
+                // Physical deletion; if it fails, a later find() unlinks the node instead.
+                NEXT.compareAndSet(window.pred, current, next);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Checks whether a value is present. Wait‑free: walks the list once and never writes.
+     *
+     * @param value value to look for
+     * @return {@code true} if the value was present and not deleted when its node was reached
+     */
+    public boolean contains(int value) {
+        var current = successor(head);
+        while (current != null && current.value < value) {
+            current = successor(current);
+        }
+        return current != null && current.value == value && !(current.next instanceof Marker);
+    }
+
+    /**
+     * @return a weakly consistent iterator over the values in ascending order; it does not
+     *         support <code>remove()</code>
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private Node next = live(successor(head));
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public int nextInt() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                var value = next.value;
+                next = live(successor(next));
+                return value;
+            }
+        };
+    }
+
+    /** @return a weakly consistent stream of the values in ascending order. */
+    public IntStream intStream() {
+        var characteristics = Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT
+                | Spliterator.CONCURRENT;
+        return StreamSupport.intStream(Spliterators.spliteratorUnknownSize(iterator(), characteristics), false);
+    }
+
+    /** Prints the values in ascending order (a weakly consistent snapshot). */
+    public void printList() {
+        for (var values = iterator(); values.hasNext(); ) {
+            System.out.print(values.nextInt() + " ");
+        }
+        System.out.println();
+    }
+
+    // ───────────────────────────────────────────────── Internal search ────────
+
+    /**
+     * Positions the window on the first node with a value &gt;= <code>value</code>
+     * (<code>current</code>, null at the end) and its unmarked predecessor
+     * (<code>pred</code>). Unlinks every marked node it passes, and starts over from
+     * the head if a CAS shows that <code>pred</code> has been deleted meanwhile.
+     */
+    private void find(int value, Window window) {
+        retry:
+        while (true) {
+            var pred = head;
+            var current = pred.next;
+            while (current != null) {
+                var next = current.next;
+                if (next instanceof Marker) {
+                    // current is deleted: swing pred past it (helping its remover).
+                    if (!NEXT.compareAndSet(pred, current, next.next)) {
+                        continue retry;
+                    }
+                    current = next.next;
+                    continue;
+                }
+                if (current.value >= value) {
+                    break;
+                }
+                pred = current;
+                current = next;
+            }
+            window.pred = pred;
+            window.current = current;
+            return;
+        }
+    }
+
+    /** @return the node after <code>node</code>, stepping over its marker if it is deleted. */
+    private static Node successor(Node node) {
+        var next = node.next;
+        return next instanceof Marker ? next.next : next;
+    }
+
+    /** @return the first node from <code>node</code> on that is not deleted, or null. */
+    private static Node live(Node node) {
+        while (node != null && node.next instanceof Marker) {
+            node = node.next.next;
+        }
+        return node;
+    }
+
+    /** The result of a search: the predecessor and the first node at or after the value. */
+    private static final class Window {
+        Node pred;
+        Node current;
+    }
+
+    /** List node; <code>next</code> is only changed by CAS once the node is linked. */
+    static class Node {
+        final int value;
+        volatile Node next;
+
+        Node(int value, Node next) {
+            this.value = value;
+            this.next = next;
+        }
+    }
+
+    /** Marks its predecessor as deleted; its own <code>next</code> is final in practice. */
+    static final class Marker extends Node {
+        Marker(Node next) {
+            super(0, next);
+        }
+    }
+
+    /** Quick demo / sanity test for all operations */
+    public static void main(String[] args) throws InterruptedException {
+        var set = new ConcurrentSortedLinkedList();
+
+        // Test 1: Values come out sorted and without duplicates.
+        System.out.println("Test 1: Adding 30, 10, 20, 10, 40");
+        for (var value : new int[]{30, 10, 20, 10, 40}) {
+            set.add(value);
+        }
+        set.printList(); // 10 20 30 40
+        System.out.println("Size: " + set.size() + ", contains 20? " + set.contains(20)
+                + ", contains 25? " + set.contains(25)); // 4, true, false
+
+        // Test 2: Removing present and absent values.
+        System.out.println("\nTest 2: Removing 20, then 20 again, then 99");
+        System.out.println(set.remove(20) + " " + set.remove(20) + " " + set.remove(99)); // true false false
+        set.printList(); // 10 30 40
+        System.out.println("Sum via stream: " + set.intStream().sum()); // 80
+
+        // Test 3: Threads race to add and remove the same small range of values. Every
+        // successful add and remove is counted per value, so at the end each value must be
+        // present exactly when it was added once more than it was removed.
+        final int threads = 4, operations = 500_000, range = 256;
+        System.out.println("\nTest 3: " + threads + " threads doing " + operations + " random adds/removes on 0.."
+                + (range - 1));
+        var contended = new ConcurrentSortedLinkedList();
+        var balance = new AtomicIntegerArray(range);
+        var workers = new Thread[threads];
+        for (var t = 0; t < threads; t++) {
+            final var seed = t;
+            workers[t] = new Thread(() -> {
+                var random = new SplittableRandom(seed);
+                for (var i = 0; i < operations; i++) {
+                    var value = random.nextInt(range);
+                    if (random.nextBoolean()) {
+                        if (contended.add(value)) {
+                            balance.incrementAndGet(value);
+                        }
+                    } else if (contended.remove(value)) {
+                        balance.decrementAndGet(value);
+                    }
+                    contended.contains(random.nextInt(range));
+                }
+            });
+        }
+        for (var worker : workers) {
+            worker.start();
+        }
+        for (var worker : workers) {
+            worker.join();
+        }
+        var expectedSize = 0;
+        for (var value = 0; value < range; value++) {
+            var expected = balance.get(value);
+            if ((expected != 0 && expected != 1) || contended.contains(value) != (expected == 1)) {
+                throw new IllegalStateException("Value " + value + " has balance " + expected);
+            }
+            expectedSize += expected;
+        }
+        var sorted = contended.intStream().toArray();
+        for (var i = 1; i < sorted.length; i++) {
+            if (sorted[i - 1] >= sorted[i]) {
+                throw new IllegalStateException("List out of order at index " + i);
+            }
+        }
+        System.out.println("Consistent: size " + contended.size() + " = " + expectedSize + " = " + sorted.length
+                + " values, strictly ascending");
+    }
+}
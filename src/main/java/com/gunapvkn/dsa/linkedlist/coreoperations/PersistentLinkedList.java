@@ -0,0 +1,389 @@
+package com.gunapvkn.dsa.linkedlist.coreoperations;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A persistent (immutable, structurally shared) singly‑linked list of ints: the
+ * classic cons list.
+ *
+ * <p>No operation changes a list. Every <em>insert</em> and <em>delete</em> returns a
+ * new version and leaves the receiver exactly as it was, so a version can be handed to
+ * any number of threads and read without locks or defensive copies. Versions share
+ * nodes wherever they can:
+ * <ul>
+ *   <li><code>insertAtBeginning</code> and <code>deleteAtBeginning</code> are O(1) and
+ *       share the whole rest of the list;</li>
+ *   <li>positional edits copy only the nodes before the position (the path to it) and
+ *       share every node after it;</li>
+ *   <li>edits at the tail therefore copy the whole list, O(n).</li>
+ * </ul>
+ *
+ * <p>Node fields are <code>final</code>, so the Java memory model guarantees that a
+ * thread which sees a version also sees all of its nodes fully built, even if the
+ * version was published through a plain field. Publishing through a
+ * <code>volatile</code> field or an <code>AtomicReference</code> is still recommended,
+ * so that readers pick up new versions promptly.
+ *
+ * <p>The method names mirror {@link SinglyLinkedList}; positions are 1‑based, and
+ * invalid positions print the same messages and return the list unchanged.
+ */
+public final class PersistentLinkedList {
+
+    /** The single empty list; every list ends by sharing it. */
+    private static final PersistentLinkedList EMPTY = new PersistentLinkedList(null, 0);
+
+    /** First node (null for the empty list). */
+    private final Node head;
+
+    /** Cached length of the list. */
+    private final int size;
+
+    // ───────────────────────────────────────────────── Constructors ────────────
+
+    private PersistentLinkedList(Node head, int size) {
+        this.head = head;
+        this.size = size;
+    }
+
+    /** @return the empty list. */
+    public static PersistentLinkedList empty() {
+        return EMPTY;
+    }
+
+    /** @return a list holding the given values in order, built in O(n). */
+    public static PersistentLinkedList of(int... values) {
+        return prepend(values, values.length, null, 0);
+    }
+
+    // ──────────────────────────────────────────────── State helpers ───────────
+
+    /** @return <code>true</code> when the list has no elements. */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** @return number of elements. */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the first value in O(1).
+     * @param valueIfEmpty value to return for the empty list
+     */
+    public int getFirst(int valueIfEmpty) {
+        return head != null ? head.value : valueIfEmpty;
+    }
+
+    /**
+     * Returns the value at a 1‑based position in O(position).
+     * @param position 1 ≤ position ≤ size
+     * @param valueIfInvalid value to return when the position is out of range
+     */
+    public int get(int position, int valueIfInvalid) {
+        if (position < 1 || position > size) {
+            return valueIfInvalid;
+        }
+        return nodeAt(position).value;
+    }
+
+    // ─────────────────────────────────────────────────── Insertions ────────────
+
+    /** @return a new version with the value in front, in O(1); this list becomes its tail. */
+    public PersistentLinkedList insertAtBeginning(int value) {
+        return new PersistentLinkedList(new Node(value, head), size + 1);
+    }
+
+    /** @return a new version with the value at the end; copies every node, O(n). */
+    public PersistentLinkedList insertAtLast(int value) {
+        return insertAtPosition(size + 1, value);
+    }
+
+    /**
+     * Returns a new version with the value inserted at a 1‑based position. The first
+     * <code>position - 1</code> nodes are copied; the rest are shared with this list.
+     * @param position 1 ≤ position ≤ size + 1
+     */
+    public PersistentLinkedList insertAtPosition(int position, int value) {
+        if (position < 1 || position > size + 1) {
+            System.out.println("Invalid Position");
+            return this;
+        }
+        var suffix = position == size + 1 ? null : nodeAt(position);
+        return copyPrefix(position - 1, new Node(value, suffix), size + 1);
+    }
+
+    // ─────────────────────────────────────────────────── Deletions ────────────
+
+    /** @return a new version without the first value, in O(1); it is simply the second node on. */
+    public PersistentLinkedList deleteAtBeginning() {
+        if (isEmpty()) {
+            System.out.println("Linked List Is Empty");
+            return this;
+        }
+        return size == 1 ? EMPTY : new PersistentLinkedList(head.next, size - 1);
+    }
+
+    /** @return a new version without the last value; copies every other node, O(n). */
+    public PersistentLinkedList deleteAtLast() {
+        if (isEmpty()) {
+            System.out.println("Linked List Is Empty");
+            return this;
+        }
+        return deleteAtPosition(size);
+    }
+
+    /**
+     * Returns a new version without the value at a 1‑based position. The first
+     * <code>position - 1</code> nodes are copied; the rest are shared with this list.
+     * @param position 1 ≤ position ≤ size
+     */
+    public PersistentLinkedList deleteAtPosition(int position) {
+        if (position < 1 || position > size) {
+            System.out.println("Invalid Position");
+            return this;
+        }
+        if (position == 1) {
+            return deleteAtBeginning();
+        }
+        return copyPrefix(position - 1, nodeAt(position).next, size - 1);
+    }
+
+    // ─────────────────────────────────────────────── Bulk operations ──────────
+
+    /**
+     * Returns this list followed by <code>other</code>. Copies the nodes of this list
+     * and shares all of <code>other</code>, so it costs O(size()) whatever the length
+     * of <code>other</code>. Unlike {@link SinglyLinkedList#appendAll}, neither input
+     * changes.
+     */
+    public PersistentLinkedList appendAll(PersistentLinkedList other) {
+        if (other.isEmpty()) {
+            return this;
+        }
+        if (isEmpty()) {
+            return other;
+        }
+        return copyPrefix(size, other.head, size + other.size);
+    }
+
+    /** @return a new version in reverse order, built in O(n) by prepending each value. */
+    public PersistentLinkedList reverse() {
+        if (size < 2) {
+            return this;
+        }
+        Node reversed = null;
+        for (var current = head; current != null; current = current.next) {
+            reversed = new Node(current.value, reversed);
+        }
+        return new PersistentLinkedList(reversed, size);
+    }
+
+    /** @return a new version sorted in ascending order, in O(n log n); nothing is shared. */
+    public PersistentLinkedList sort() {
+        if (size < 2) {
+            return this;
+        }
+        var values = toArray();
+        Arrays.sort(values);
+        return prepend(values, values.length, null, 0);
+    }
+
+    /** @return the values from head to tail in a new array. */
+    public int[] toArray() {
+        var values = new int[size];
+        var current = head;
+        for (var i = 0; i < size; i++) {
+            values[i] = current.value;
+            current = current.next;
+        }
+        return values;
+    }
+
+    // ───────────────────────────────────────────── Iteration & streams ───────
+
+    /** @return an iterator from head to tail; the list cannot change under it. */
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private Node current = head;
+
+            @Override
+            public boolean hasNext() {
+                return current != null;
+            }
+
+            @Override
+            public int nextInt() {
+                if (current == null) {
+                    throw new NoSuchElementException();
+                }
+                var value = current.value;
+                current = current.next;
+                return value;
+            }
+        };
+    }
+
+    /**
+     * Returns an ORDERED, SIZED, SUBSIZED and IMMUTABLE spliterator from head to tail.
+     * It splits by copying batches of values into arrays, like
+     * {@link SinglyLinkedList#spliterator()}.
+     */
+    public Spliterator.OfInt spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    /** @return a sequential stream from head to tail; call <code>parallel()</code> to split it. */
+    public IntStream intStream() {
+        return StreamSupport.intStream(spliterator(), false);
+    }
+
+    // ─────────────────────────────────────────────────── Utilities ────────────
+
+    /** Prints the list contents from head to tail. */
+    public void printList() {
+        for (var current = head; current != null; current = current.next) {
+            System.out.print(current.value + " ");
+        }
+        System.out.println();
+    }
+
+    /** @return the node at a 1‑based position, which must be valid. */
+    private Node nodeAt(int position) {
+        var current = head;
+        for (var i = 1; i < position; i++) {
+            current = current.next;
+        }
+        return current;
+    }
+
+    /**
+     * Copies the first <code>count</code> nodes of this list in front of
+     * <code>suffix</code>. Iterative, so long prefixes cannot overflow the stack.
+     */
+    private PersistentLinkedList copyPrefix(int count, Node suffix, int newSize) {
+        var values = new int[count];
+        var current = head;
+        for (var i = 0; i < count; i++) {
+            values[i] = current.value;
+            current = current.next;
+        }
+        return prepend(values, count, suffix, newSize - count);
+    }
+
+    /** Builds values[0, count) in front of a suffix of <code>suffixSize</code> nodes. */
+    private static PersistentLinkedList prepend(int[] values, int count, Node suffix, int suffixSize) {
+        if (count == 0 && suffix == null) {
+            return EMPTY;
+        }
+        var node = suffix;
+        for (var i = count - 1; i >= 0; i--) {
+            node = new Node(values[i], node);
+        }
+        return new PersistentLinkedList(node, count + suffixSize);
+    }
+
+    // ─────────────────────────────────────────── Internal node class ──────────
+
+    /** Immutable node; final fields make every version safe to share between threads. */
+    static final class Node {
+        final int value;
+        final Node next;
+
+        Node(int value, Node next) {
+            this.value = value;
+            this.next = next;
+        }
+    }
+
+    // ──────────────────────────────────────────────── Demo / Test ────────────────
+
+    /**
+     * Main method to test PersistentLinkedList operations, including one writer
+     * publishing versions to reader threads.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        // Test 1: Every edit returns a new version and leaves the old one intact.
+        System.out.println("Test 1: Building versions from 1 2 3");
+        var v1 = PersistentLinkedList.of(1, 2, 3);
+        var v2 = v1.insertAtBeginning(0);
+        var v3 = v2.insertAtPosition(3, 99);
+        var v4 = v3.deleteAtLast();
+        v1.printList(); // 1 2 3
+        v2.printList(); // 0 1 2 3
+        v3.printList(); // 0 1 99 2 3
+        v4.printList(); // 0 1 99 2
+
+        // Test 2: O(1) head edits share the rest of the list.
+        System.out.println("\nTest 2: Structural sharing");
+        System.out.println("v2 without its head is v1's node chain: " + (v2.deleteAtBeginning().head == v1.head));
+        System.out.println("v3 shares the nodes after position 3 with v2: " + (v3.nodeAt(4) == v2.nodeAt(3)));
+
+        // Test 3: Invalid edits print a message and return the same version.
+        System.out.println("\nTest 3: Invalid edits");
+        System.out.println("Same version returned: " + (v1.deleteAtPosition(7) == v1));
+        System.out.println("Same version returned: " + (empty().deleteAtBeginning() == empty()));
+
+        // Test 4: Bulk operations.
+        System.out.println("\nTest 4: appendAll, reverse and sort");
+        var joined = v1.appendAll(PersistentLinkedList.of(9, 7));
+        joined.printList();           // 1 2 3 9 7
+        joined.reverse().printList(); // 7 9 3 2 1
+        joined.sort().printList();    // 1 2 3 7 9
+        System.out.println("Sum = " + joined.intStream().parallel().sum()
+                + ", value at position 4 = " + joined.get(4, -1)); // 22, 9
+
+        // Test 5: One writer publishes a new version per step; readers take snapshots
+        // without locks, and every snapshot must be internally consistent.
+        final int versions = 200_000;
+        final int readers = 3;
+        System.out.println("\nTest 5: One writer publishing " + versions + " versions to " + readers + " readers");
+        var published = new AtomicReference<>(empty());
+        var done = new AtomicBoolean();
+        var reads = new long[readers];
+        var threads = new Thread[readers];
+        for (var r = 0; r < readers; r++) {
+            final var reader = r;
+            threads[r] = new Thread(() -> {
+                while (!done.get()) {
+                    // Version k holds k, k-1, ..., 1 (after trimming), so its sum depends only on its contents.
+                    var snapshot = published.get();
+                    var first = snapshot.getFirst(0);
+                    var last = snapshot.isEmpty() ? 0 : first - snapshot.size() + 1;
+                    var expected = (long) (first + last) * snapshot.size() / 2;
+                    var sum = 0L;
+                    for (var values = snapshot.iterator(); values.hasNext(); ) {
+                        sum += values.nextInt();
+                    }
+                    if (sum != expected) {
+                        throw new IllegalStateException("Inconsistent snapshot of size " + snapshot.size());
+                    }
+                    reads[reader]++;
+                }
+            });
+            threads[r].start();
+        }
+        var current = empty();
+        for (var k = 1; k <= versions; k++) {
+            current = current.insertAtBeginning(k);
+            if (current.size() > 64) {
+                current = current.deleteAtLast(); // keep a sliding window; copies 64 nodes
+            }
+            published.set(current);
+        }
+        done.set(true);
+        for (var thread : threads) {
+            thread.join();
+        }
+        System.out.println("Final version starts with " + current.getFirst(-1) + ", size " + current.size()
+                + "; readers checked " + Arrays.stream(reads).sum() + " snapshots");
+    }
+}
@@ -1,11 +1,19 @@
 package com.gunapvkn.dsa.linkedlist.coreoperations;
 
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
 /**
  * A simple implementation of a singly‑linked list that supports the most common
  * operations required in coding interviews and day‑to‑day development.
  *
- * <p>The list keeps track of its <code>head</code> pointer and a <code>size</code>
- * counter so that <code>isEmpty()</code> and boundary checks run in O(1) time.
+ * <p>The list keeps track of its <code>head</code> and <code>tail</code> pointers and a
+ * <code>size</code> counter so that appends, <code>isEmpty()</code> and boundary checks
+ * run in O(1) time.
  *
  * <p>The public API purposefully mirrors the usual verb‑nomenclature used in
  * textbooks: <em>insert</em> and <em>delete</em> at the <em>beginning</em>,
@@ -16,6 +24,9 @@ public class SinglyLinkedList {
     /** Pointer to the first node (null when the list is empty). */
     private Node head;
 
+    /** Pointer to the last node (null when the list is empty) – makes appends O(1). */
+    private Node tail;
+
     /** Cached length of the list – keeps every operation O(1) for size checks. */
     private int size;
 
@@ -42,21 +53,22 @@ public class SinglyLinkedList {
         var newNode = new Node(value);
         newNode.next = head; // new node now points to former head
         head = newNode;      // head re‑points to the new node
+        if (tail == null) {
+            tail = newNode;  // first node is both head and tail
+        }
         size++;
     }
 
-    /** Inserts a node at the tail in O(n). */
+    /** Inserts a node at the tail in O(1). */
     public void insertAtLast(int value) {
         if (isEmpty()) {
             insertAtBeginning(value);
             return;
         }
 
-        var current = head;
-        while (current.next != null) {
-            current = current.next; // walk to last node
-        }
-        current.next = new Node(value);
+        var newNode = new Node(value);
+        tail.next = newNode; // no walk needed – tail is cached
+        tail = newNode;
         size++;
     }
 
@@ -73,6 +85,10 @@ public class SinglyLinkedList {
             System.out.println("Invalid Position");
             return;
         }
+        if (position == size + 1) {
+            insertAtLast(value);
+            return;
+        }
 
         var newNode = new Node(value);
         var current = head;
@@ -93,17 +109,20 @@ public class SinglyLinkedList {
             return;
         }
         head = head.next;
+        if (head == null) {
+            tail = null; // list became empty
+        }
         size--;
     }
 
-    /** Deletes the tail node in O(n). */
+    /** Deletes the tail node in O(n) – the new tail still has to be found by walking. */
     public void deleteAtLast() {
         if (isEmpty()) {
             System.out.println("Linked List Is Empty");
             return;
         }
         if (size == 1) {
-            head = null;
+            head = tail = null;
             size--; // adjust size when the single node is removed
             return;
         }
@@ -113,6 +132,7 @@ public class SinglyLinkedList {
             current = current.next; // stop at second‑last node
         }
         current.next = null;
+        tail = current;
         size--;
     }
 
@@ -135,9 +155,171 @@ public class SinglyLinkedList {
             current = current.next;
         }
         current.next = current.next.next; // unlink the node
+        if (current.next == null) {
+            tail = current; // removed the last node
+        }
         size--;
     }
 
+    // ─────────────────────────────────────────────── Bulk operations ──────────
+
+    /**
+     * Reverses the list in place in O(n) by flipping every <code>next</code> link.
+     * No nodes are allocated.
+     */
+    public void reverse() {
+        Node previous = null;
+        var current = head;
+        while (current != null) {
+            var next = current.next;
+            current.next = previous;
+            previous = current;
+            current = next;
+        }
+        tail = head;
+        head = previous;
+    }
+
+    /**
+     * Moves every node of <code>other</code> to the end of this list in O(1) by
+     * linking this tail to the other head. <code>other</code> is left empty.
+     *
+     * @throws IllegalArgumentException if <code>other</code> is this list
+     */
+    public void appendAll(SinglyLinkedList other) {
+        if (other == this) {
+            throw new IllegalArgumentException("Cannot append a list to itself");
+        }
+        if (other.isEmpty()) {
+            return;
+        }
+        if (isEmpty()) {
+            head = other.head;
+        } else {
+            tail.next = other.head;
+        }
+        tail = other.tail;
+        size += other.size;
+
+        other.head = other.tail = null;
+        other.size = 0;
+    }
+
+    /**
+     * Sorts the list in ascending order with an iterative bottom‑up merge sort.
+     *
+     * <p>Pass <em>k</em> merges neighbouring sorted runs of length 2<sup>k</sup> by
+     * relinking nodes, so the sort is O(n log n), stable, uses O(1) extra space and
+     * neither recurses nor allocates.
+     */
+    public void sort() {
+        if (size < 2) {
+            return;
+        }
+        for (var width = 1; width < size; width <<= 1) {
+            Node sortedHead = null;
+            Node sortedTail = null;
+            var remaining = head;
+            while (remaining != null) {
+                // Detach two runs of length `width` from the front of what is left.
+                var left = remaining;
+                var right = cut(left, width);
+                remaining = cut(right, width);
+
+                // Merge them onto the end of the already merged part.
+                while (left != null && right != null) {
+                    Node smaller;
+                    if (left.value <= right.value) { // <= keeps equal values in order
+                        smaller = left;
+                        left = left.next;
+                    } else {
+                        smaller = right;
+                        right = right.next;
+                    }
+                    if (sortedTail == null) {
+                        sortedHead = smaller;
+                    } else {
+                        sortedTail.next = smaller;
+                    }
+                    sortedTail = smaller;
+                }
+                var rest = left != null ? left : right;
+                if (sortedTail == null) {
+                    sortedHead = sortedTail = rest;
+                } else {
+                    sortedTail.next = rest;
+                }
+                while (sortedTail.next != null) {
+                    sortedTail = sortedTail.next; // at most `width` steps
+                }
+            }
+            head = sortedHead;
+            tail = sortedTail;
+        }
+    }
+
+    /**
+     * Cuts the chain after its first <code>n</code> nodes.
+     * @return the node that followed the cut, or null if the chain was not longer than n
+     */
+    private static Node cut(Node start, int n) {
+        if (start == null) {
+            return null;
+        }
+        for (var i = 1; i < n && start.next != null; i++) {
+            start = start.next;
+        }
+        var rest = start.next;
+        start.next = null;
+        return rest;
+    }
+
+    // ───────────────────────────────────────────── Iteration & streams ───────
+
+    /**
+     * @return an iterator from head to tail; it does not support <code>remove()</code>.
+     *         Structural changes while iterating are not detected.
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private Node current = head;
+
+            @Override
+            public boolean hasNext() {
+                return current != null;
+            }
+
+            @Override
+            public int nextInt() {
+                if (current == null) {
+                    throw new NoSuchElementException();
+                }
+                var value = current.value;
+                current = current.next;
+                return value;
+            }
+        };
+    }
+
+    /**
+     * Returns an ORDERED, SIZED and SUBSIZED spliterator from head to tail.
+     *
+     * <p>A list cannot be cut in the middle without walking to it, so every
+     * <code>trySplit()</code> copies the next batch of values (1024 more per split)
+     * into an array and hands that out; this is the splitting that
+     * {@link Spliterators#spliterator(PrimitiveIterator.OfInt, long, int)} provides for
+     * an iterator of known size. The copied batches are then processed in parallel
+     * while the walk continues.
+     */
+    public Spliterator.OfInt spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED);
+    }
+
+    /** @return a sequential stream from head to tail; call <code>parallel()</code> to split it. */
+    public IntStream intStream() {
+        return StreamSupport.intStream(spliterator(), false);
+    }
+
     // ─────────────────────────────────────────────────── Utilities ────────────
 
     /** Prints the list contents from head to tail. */
@@ -212,6 +394,31 @@ class LinkedListDemo {
         System.out.println("\n▶ Attempting invalid delete (position 0):");
         list.deleteAtPosition(0); // should warn
 
+        System.out.println("\n▶ Reversing:");
+        list.reverse();
+        list.printList(); // 4 3 2
+
+        System.out.println("\n▶ Splicing 7 9 1 onto the end:");
+        var other = new SinglyLinkedList();
+        other.insertAtLast(7);
+        other.insertAtLast(9);
+        other.insertAtLast(1);
+        list.appendAll(other);
+        list.printList(); // 4 3 2 7 9 1
+        System.out.println("Other list size after splice = " + other.size()); // 0
+
+        System.out.println("\n▶ Sorting:");
+        list.sort();
+        list.printList(); // 1 2 3 4 7 9
+        list.insertAtLast(10); // tail is still correct after relinking
+        list.printList(); // 1 2 3 4 7 9 10
+
+        System.out.println("\n▶ Streaming:");
+        System.out.println("Sum = " + list.intStream().sum()
+                + ", odd values = " + list.intStream().parallel().filter(v -> v % 2 == 1).count()); // 36, 4
+        var values = list.iterator();
+        System.out.println("First two = " + values.nextInt() + " " + values.nextInt()); // 1 2
+
         System.out.println("\n▶ Clearing the list completely:");
         while (!list.isEmpty()) {
             list.deleteAtLast();
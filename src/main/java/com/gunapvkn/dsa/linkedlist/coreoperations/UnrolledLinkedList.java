@@ -0,0 +1,413 @@
+package com.gunapvkn.dsa.linkedlist.coreoperations;
+
+import java.util.Arrays;
+
+/**
+ * An unrolled linked list: the same public API as {@link SinglyLinkedList}, but every node
+ * stores a small <code>int[]</code> block of values instead of a single <code>int</code>.
+ *
+ * <p>With blocks of <em>B</em> values the per‑element overhead of object headers and
+ * <code>next</code> references drops by roughly a factor of <em>B</em>, and a walk to a position
+ * follows about n / <em>B</em> pointers, scanning each block sequentially in between.
+ *
+ * <p>A positional insert into a full block splits it into two half‑full blocks. A delete that
+ * leaves a block less than half full refills it from its successor – or merges the two when
+ * they fit into one block – so interior blocks stay at least half full after edits.
+ * Appends fill the last block completely before a new one is started.
+ */
+public class UnrolledLinkedList {
+
+    /** Block size used by the no‑arg constructor: 32 ints = two 64‑byte cache lines. */
+    public static final int DEFAULT_BLOCK_SIZE = 32;
+
+    /** Pointer to the first block (null when the list is empty). */
+    private Node head;
+
+    /** Pointer to the last block (null when the list is empty) – makes appends O(1). */
+    private Node tail;
+
+    /** Cached number of values (not blocks) in the list. */
+    private int size;
+
+    /** Capacity of every block. */
+    private final int blockSize;
+
+    // ───────────────────────────────────────────────── Constructors ────────────
+
+    public UnrolledLinkedList() {
+        this(DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * @param blockSize number of values per node, at least 4
+     * @throws IllegalArgumentException if blockSize is smaller than 4
+     */
+    public UnrolledLinkedList(int blockSize) {
+        if (blockSize < 4) {
+            throw new IllegalArgumentException("Block size must be at least 4: " + blockSize);
+        }
+        this.blockSize = blockSize;
+    }
+
+    // ──────────────────────────────────────────────── State helpers ───────────
+
+    /** @return <code>true</code> when the list has no elements. */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** @return current number of values (handy for tests). */
+    public int size() {
+        return size;
+    }
+
+    // ─────────────────────────────────────────────────── Insertions ────────────
+
+    /** Inserts a value at the very front in O(B). */
+    public void insertAtBeginning(int value) {
+        insertAtIndex(0, value);
+    }
+
+    /** Inserts a value at the tail in O(1). */
+    public void insertAtLast(int value) {
+        if (tail == null || tail.count == blockSize) {
+            appendNode(new Node(blockSize));
+        }
+        tail.values[tail.count++] = value;
+        size++;
+    }
+
+    /**
+     * Inserts a value at a 1‑based position.
+     * @param position 1 ≤ position ≤ size + 1
+     */
+    public void insertAtPosition(int position, int value) {
+        if (position < 1 || position > size + 1) {
+            System.out.println("Invalid Position");
+            return;
+        }
+        if (position == size + 1) {
+            insertAtLast(value);
+            return;
+        }
+        insertAtIndex(position - 1, value);
+    }
+
+    // ─────────────────────────────────────────────────── Deletions ────────────
+
+    /** Deletes the first value in O(B). */
+    public void deleteAtBeginning() {
+        if (isEmpty()) {
+            System.out.println("Linked List Is Empty");
+            return;
+        }
+        deleteAtIndex(0);
+    }
+
+    /** Deletes the last value; O(1) unless the last block empties and must be unlinked. */
+    public void deleteAtLast() {
+        if (isEmpty()) {
+            System.out.println("Linked List Is Empty");
+            return;
+        }
+        tail.count--;
+        size--;
+        if (tail.count == 0) {
+            removeTailNode();
+        }
+    }
+
+    /**
+     * Deletes the value at a 1‑based position.
+     * @param position 1 ≤ position ≤ size
+     */
+    public void deleteAtPosition(int position) {
+        if (position < 1 || position > size) {
+            System.out.println("Invalid Position");
+            return;
+        }
+        deleteAtIndex(position - 1);
+    }
+
+    // ─────────────────────────────────────────────── Bulk operations ──────────
+
+    /** Reverses the list in place: block order and the values inside every block. */
+    public void reverse() {
+        Node previous = null;
+        var current = head;
+        while (current != null) {
+            for (int i = 0, j = current.count - 1; i < j; i++, j--) {
+                var swap = current.values[i];
+                current.values[i] = current.values[j];
+                current.values[j] = swap;
+            }
+            var next = current.next;
+            current.next = previous;
+            previous = current;
+            current = next;
+        }
+        tail = head;
+        head = previous;
+    }
+
+    /**
+     * Sorts the list in ascending order.
+     *
+     * <p>The values are copied into one array, sorted with {@link Arrays#sort(int[])} and
+     * written back block by block, so every block keeps its fill level. Sorting a flat
+     * array beats relinking blocks, at the cost of one temporary array of <code>size</code> ints.
+     */
+    public void sort() {
+        var sorted = new int[size];
+        var index = 0;
+        for (var node = head; node != null; node = node.next) {
+            System.arraycopy(node.values, 0, sorted, index, node.count);
+            index += node.count;
+        }
+        Arrays.sort(sorted);
+        index = 0;
+        for (var node = head; node != null; node = node.next) {
+            System.arraycopy(sorted, index, node.values, 0, node.count);
+            index += node.count;
+        }
+    }
+
+    /**
+     * Moves every block of <code>other</code> to the end of this list in O(1).
+     * <code>other</code> is left empty. The blocks on either side of the join keep
+     * their fill level, so the join may leave one under‑filled block in the middle.
+     *
+     * @throws IllegalArgumentException if <code>other</code> is this list or uses a different block size
+     */
+    public void appendAll(UnrolledLinkedList other) {
+        if (other == this) {
+            throw new IllegalArgumentException("Cannot append a list to itself");
+        }
+        if (other.blockSize != blockSize) {
+            throw new IllegalArgumentException("Block sizes differ: " + blockSize + " vs " + other.blockSize);
+        }
+        if (other.isEmpty()) {
+            return;
+        }
+        if (isEmpty()) {
+            head = other.head;
+        } else {
+            tail.next = other.head;
+        }
+        tail = other.tail;
+        size += other.size;
+
+        other.head = other.tail = null;
+        other.size = 0;
+    }
+
+    // ─────────────────────────────────────────────────── Utilities ────────────
+
+    /** Prints the list contents from head to tail. */
+    public void printList() {
+        for (var node = head; node != null; node = node.next) {
+            for (var i = 0; i < node.count; i++) {
+                System.out.print(node.values[i] + " ");
+            }
+        }
+        System.out.println();
+    }
+
+    /** @return the number of blocks currently allocated (handy for tests). */
+    public int blockCount() {
+        var blocks = 0;
+        for (var node = head; node != null; node = node.next) {
+            blocks++;
+        }
+        return blocks;
+    }
+
+    // ──────────────────────────────────────────────── Block handling ──────────
+
+    /** Inserts at a 0‑based index in [0, size), splitting the target block if it is full. */
+    private void insertAtIndex(int index, int value) {
+        if (head == null) {
+            insertAtLast(value);
+            return;
+        }
+        var node = head;
+        while (index > node.count && node.next != null) {
+            index -= node.count; // skip whole blocks
+            node = node.next;
+        }
+        if (node.count == blockSize) {
+            var half = blockSize / 2;
+            var right = split(node, half);
+            if (index > half) {
+                node = right;
+                index -= half;
+            }
+        }
+        System.arraycopy(node.values, index, node.values, index + 1, node.count - index);
+        node.values[index] = value;
+        node.count++;
+        size++;
+    }
+
+    /** Deletes at a 0‑based index in [0, size) and rebalances the affected block. */
+    private void deleteAtIndex(int index) {
+        Node previous = null;
+        var node = head;
+        while (index >= node.count) {
+            index -= node.count;
+            previous = node;
+            node = node.next;
+        }
+        System.arraycopy(node.values, index + 1, node.values, index, node.count - index - 1);
+        node.count--;
+        size--;
+
+        if (node.count == 0) {
+            unlink(previous, node);
+        } else if (node.count < blockSize / 2 && node.next != null) {
+            refill(node);
+        }
+    }
+
+    /**
+     * Moves the values from <code>keep</code> onward into a new block inserted after node.
+     * @return the new block
+     */
+    private Node split(Node node, int keep) {
+        var right = new Node(blockSize);
+        right.count = node.count - keep;
+        System.arraycopy(node.values, keep, right.values, 0, right.count);
+        node.count = keep;
+        right.next = node.next;
+        node.next = right;
+        if (tail == node) {
+            tail = right;
+        }
+        return right;
+    }
+
+    /** Brings an under‑filled block back to half full from its successor, or merges the two. */
+    private void refill(Node node) {
+        var next = node.next;
+        if (node.count + next.count <= blockSize) {
+            System.arraycopy(next.values, 0, node.values, node.count, next.count);
+            node.count += next.count;
+            unlink(node, next);
+            return;
+        }
+        var moved = blockSize / 2 - node.count;
+        System.arraycopy(next.values, 0, node.values, node.count, moved);
+        System.arraycopy(next.values, moved, next.values, 0, next.count - moved);
+        node.count += moved;
+        next.count -= moved;
+    }
+
+    private void appendNode(Node node) {
+        if (tail == null) {
+            head = tail = node;
+        } else {
+            tail.next = node;
+            tail = node;
+        }
+    }
+
+    private void unlink(Node previous, Node node) {
+        if (previous == null) {
+            head = node.next;
+        } else {
+            previous.next = node.next;
+        }
+        if (tail == node) {
+            tail = previous;
+        }
+    }
+
+    private void removeTailNode() {
+        Node previous = null;
+        if (head != tail) {
+            previous = head;
+            while (previous.next != tail) {
+                previous = previous.next; // walk blocks, not values
+            }
+        }
+        unlink(previous, tail);
+    }
+
+    // ─────────────────────────────────────────── Internal node class ──────────
+
+    /** Package‑private static nested class holding one block of values. */
+    static class Node {
+        final int[] values;
+        int count; // number of used slots at the front of values
+        Node next;
+
+        Node(int blockSize) {
+            this.values = new int[blockSize];
+        }
+    }
+}
+
+// ──────────────────────────────────────────────── Demo / Test ────────────────
+
+/**
+ * Runs the same script as {@link LinkedListDemo} against an unrolled list with tiny
+ * blocks so that block splits and merges actually happen.
+ */
+class UnrolledLinkedListDemo {
+    public static void main(String[] args) {
+        var list = new UnrolledLinkedList(4);
+
+        System.out.println("\n▶ Inserting 3, 2, 1 at the beginning:");
+        list.insertAtBeginning(3);
+        list.insertAtBeginning(2);
+        list.insertAtBeginning(1);
+        list.printList(); // 1 2 3
+
+        System.out.println("\n▶ Inserting 4 and 5 at the end:");
+        list.insertAtLast(4);
+        list.insertAtLast(5);
+        list.printList(); // 1 2 3 4 5
+
+        System.out.println("\n▶ Inserting 99 at position 3:");
+        list.insertAtPosition(3, 99);
+        list.printList(); // 1 2 99 3 4 5
+
+        System.out.println("\n▶ Deleting at beginning:");
+        list.deleteAtBeginning();
+        list.printList(); // 2 99 3 4 5
+
+        System.out.println("\n▶ Deleting at last:");
+        list.deleteAtLast();
+        list.printList(); // 2 99 3 4
+
+        System.out.println("\n▶ Deleting node at position 2:");
+        list.deleteAtPosition(2);
+        list.printList(); // 2 3 4
+
+        System.out.println("\n▶ Attempting invalid insert (position 10):");
+        list.insertAtPosition(10, 123); // should warn
+
+        System.out.println("\n▶ Filling 1..20 and counting blocks:");
+        for (var i = 1; i <= 20; i++) {
+            list.insertAtPosition(list.size() / 2 + 1, i);
+        }
+        list.printList();
+        System.out.println("Size = " + list.size() + ", blocks = " + list.blockCount());
+
+        System.out.println("\n▶ Reversing:");
+        list.reverse();
+        list.printList();
+
+        System.out.println("\n▶ Sorting:");
+        list.sort();
+        list.printList(); // 1 2 2 3 3 4 4 5 ... 20
+
+        System.out.println("\n▶ Clearing the list completely:");
+        while (!list.isEmpty()) {
+            list.deleteAtBeginning();
+        }
+        list.printList(); // empty line
+
+        System.out.println("Size after clear = " + list.size() + ", blocks = " + list.blockCount()); // 0, 0
+    }
+}
@@ -1,24 +1,78 @@
 package com.gunapvkn.dsa.queue.coreoperations;
 
-import java.util.Arrays;
+import com.gunapvkn.dsa.stats.OperationStats;
+
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
 
 /**
  * ArrayQueue is a simple implementation of a FIFO (First In, First Out) queue using an array.
  * It supports basic operations such as enqueuing, dequeuing, checking if the queue is empty or full,
  * retrieving the front element, and printing the contents of the queue.
+ *
+ * <p>The array is used as a ring buffer: {@code head} points at the front element and the rear
+ * is found at {@code (head + size) & mask}, so both enque and deque run in O(1) without shifting.
+ * The backing array length is always a power of two so that wrapping is a single bit mask.
+ *
+ * <p>A queue created with {@link #ArrayQueue(int)} is bounded and throws when full. A queue created
+ * with {@link #ArrayQueue(int, boolean, boolean)} can instead grow by doubling and, optionally,
+ * shrink by halving once it drops to a quarter of its backing array.
  */
 public class ArrayQueue {
-    private final int[] arr;     // Array to store queue elements
+    private static final int MAX_LENGTH = 1 << 30; // Largest power-of-two array length the queue will allocate
+
+    private int[] arr;     // Ring buffer storing queue elements (length is a power of two)
+    private int head;      // Index of the front element inside arr
+    private int mask;      // arr.length - 1, used to wrap indices
     int size, capacity;    // Current number of elements and maximum capacity of the queue
 
+    private final boolean growable;   // Double the buffer instead of throwing when full
+    private final boolean shrinkable; // Halve the buffer when occupancy falls to the low watermark
+    private final int minLength;      // Backing length the queue never shrinks below
+
+    private final OperationStats stats = OperationStats.forInstance(this); // Counters, only filled with -Ddsa.stats=true
+
     /**
      * Constructor to initialize the queue with a specified capacity.
      * @param capacity The maximum number of elements the queue can hold.
      */
     public ArrayQueue(int capacity) {
+        this(capacity, false, false);
         this.capacity = capacity;
+    }
+
+    /**
+     * Constructor to initialize a queue that may resize itself.
+     * @param initialCapacity The number of elements the queue can hold before it first grows.
+     * @param growable true to double the capacity when full instead of throwing.
+     * @param shrinkable true to halve the capacity when the queue falls to a quarter full.
+     * @throws IllegalArgumentException if initialCapacity is negative or too large.
+     */
+    public ArrayQueue(int initialCapacity, boolean growable, boolean shrinkable) {
+        if (initialCapacity < 0 || initialCapacity > MAX_LENGTH) {
+            throw new IllegalArgumentException("Invalid capacity: " + initialCapacity);
+        }
+        this.arr = new int[roundUpToPowerOfTwo(initialCapacity)];
+        this.mask = arr.length - 1;
+        this.head = 0;
         this.size = 0;
-        this.arr = new int[capacity];
+        this.capacity = arr.length;
+        this.growable = growable;
+        this.shrinkable = shrinkable;
+        this.minLength = arr.length;
+    }
+
+    /**
+     * Rounds a requested capacity up to the next power of two (minimum 1).
+     * @param n The requested capacity.
+     * @return The smallest power of two that is greater than or equal to n.
+     */
+    private static int roundUpToPowerOfTwo(int n) {
+        return n <= 1 ? 1 : Integer.highestOneBit(n - 1) << 1;
     }
 
     /**
@@ -29,6 +83,14 @@ public class ArrayQueue {
         return size;
     }
 
+    /**
+     * Returns the operation counters of this queue. Elements moved are the copies made by resizing.
+     * @return The stats object; {@link OperationStats#DISABLED} unless run with -Ddsa.stats=true.
+     */
+    public OperationStats stats() {
+        return stats;
+    }
+
     /**
      * Checks if the queue is empty.
      * @return true if the queue is empty; false otherwise.
@@ -54,14 +116,45 @@ public class ArrayQueue {
         if (isEmpty()) {
             throw new RuntimeException("Queue is empty");
         }
-        return arr[0];
+        return arr[head];
     }
 
     /**
      * Prints the elements of the queue from the front to the current size.
      */
     public void printQueue() {
-        Arrays.stream(arr, 0, size).forEach(e -> System.out.println(e + " "));
+        for (int i = 0; i < size; i++) {
+            System.out.println(arr[(head + i) & mask] + " ");
+        }
+    }
+
+    /**
+     * Returns an iterator over the elements from front to rear.
+     * Like {@link #spliterator()}, it sees the queue as it was when this method was called.
+     * @return A primitive iterator; it does not support remove().
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        return Spliterators.iterator(spliterator());
+    }
+
+    /**
+     * Returns a spliterator over the elements from front to rear. It reports ORDERED, SIZED and SUBSIZED and
+     * splits its range of ring positions exactly in half, so parallel streams divide the work evenly.
+     * The spliterator captures the buffer, head and size when it is created; enqueuing or dequeuing while it
+     * is in use is not detected and leads to undefined results.
+     * @return A spliterator over the current elements.
+     */
+    public Spliterator.OfInt spliterator() {
+        return new RingSpliterator(arr, head, mask, 0, size);
+    }
+
+    /**
+     * Returns a sequential stream of the elements from front to rear; call parallel() on it to split the
+     * traversal across the common fork-join pool.
+     * @return An IntStream over the current elements.
+     */
+    public IntStream intStream() {
+        return StreamSupport.intStream(spliterator(), false);
     }
 
     /**
@@ -70,31 +163,137 @@ public class ArrayQueue {
      * @throws RuntimeException if the queue is full.
      */
     public void enque(int value) {
+        long start = OperationStats.start();
+        int moved = 0;
         if (isFull()) {
-            throw new RuntimeException("Queue is full");
+            if (!growable || arr.length == MAX_LENGTH) {
+                if (OperationStats.ENABLED) {
+                    stats.rejected("enque", start, size);
+                }
+                throw new RuntimeException("Queue is full");
+            }
+            moved = size;
+            resize(arr.length << 1);
+        }
+        arr[(head + size) & mask] = value;
+        size++;
+        if (OperationStats.ENABLED) {
+            stats.completed("enque", start, moved, size);
         }
-        arr[size++] = value;
     }
 
     /**
      * Removes and returns the front element of the queue.
-     * After removal, shifts all elements one position to the left.
+     * After removal, the head index advances by one position (wrapping around the buffer).
      * @return The element removed from the front of the queue.
      * @throws RuntimeException if the queue is empty.
      */
     public int deque() {
+        long start = OperationStats.start();
         if (isEmpty()) {
+            if (OperationStats.ENABLED) {
+                stats.rejected("deque", start, 0);
+            }
             throw new RuntimeException("Queue is empty");
         }
-        int element = arr[0];
-        // Shift all elements left by one position
-        for (int i = 0; i < size - 1; i++) {
-            arr[i] = arr[i + 1];
-        }
+        int element = arr[head];
+        head = (head + 1) & mask;
         size--;  // Decrement the size after removal
+
+        // Low watermark: release half of the buffer once it is only a quarter full.
+        int moved = 0;
+        if (shrinkable && arr.length > minLength && size <= (arr.length >>> 2)) {
+            moved = size;
+            resize(arr.length >>> 1);
+        }
+        if (OperationStats.ENABLED) {
+            stats.completed("deque", start, moved, size);
+        }
         return element;
     }
 
+    /**
+     * Copies the live elements into a new buffer of the given power-of-two length,
+     * unwrapping them so that the front element lands at index 0.
+     * @param newLength The new backing array length; must be at least size.
+     */
+    private void resize(int newLength) {
+        int[] next = new int[newLength];
+        int firstRun = Math.min(size, arr.length - head);
+        System.arraycopy(arr, head, next, 0, firstRun);
+        System.arraycopy(arr, 0, next, firstRun, size - firstRun);
+        arr = next;
+        mask = newLength - 1;
+        head = 0;
+        capacity = newLength;
+    }
+
+    /**
+     * Spliterator over the logical positions [index, fence) of a ring buffer, where position i is stored at
+     * arr[(head + i) & mask]. Splitting halves the position range; no elements are copied.
+     */
+    static final class RingSpliterator implements Spliterator.OfInt {
+        private final int[] arr;  // Ring buffer captured when the spliterator was created
+        private final int head;   // Index of the front element inside arr
+        private final int mask;   // arr.length - 1, used to wrap indices
+        private int index;        // Next logical position to visit
+        private final int fence;  // One past the last logical position to visit
+
+        RingSpliterator(int[] arr, int head, int mask, int index, int fence) {
+            this.arr = arr;
+            this.head = head;
+            this.mask = mask;
+            this.index = index;
+            this.fence = fence;
+        }
+
+        @Override
+        public OfInt trySplit() {
+            int mid = (index + fence) >>> 1;
+            if (mid <= index) {
+                return null;
+            }
+            // Hand out the front half and keep the back half, as the JDK array spliterators do.
+            var prefix = new RingSpliterator(arr, head, mask, index, mid);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            if (index >= fence) {
+                return false;
+            }
+            action.accept(arr[(head + index++) & mask]);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            // Walk the remaining range as at most two contiguous runs so the loop needs no masking.
+            int start = (head + index) & mask;
+            int count = fence - index;
+            int firstRun = Math.min(count, arr.length - start);
+            index = fence;
+            for (int i = start; i < start + firstRun; i++) {
+                action.accept(arr[i]);
+            }
+            for (int i = 0; i < count - firstRun; i++) {
+                action.accept(arr[i]);
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED;
+        }
+    }
+
     /**
      * Main method to test ArrayQueue operations.
      * This method demonstrates enqueuing, dequeuing, checking status, and handling exceptions.
@@ -171,5 +370,36 @@ public class ArrayQueue {
         } catch (RuntimeException e) {
             System.out.println("Caught exception: " + e.getMessage());
         }
+
+        // Test 13: A growable queue doubles instead of throwing, and shrinks back when drained.
+        System.out.println("\nTest 13: Growable ring-buffer queue:");
+        ArrayQueue growingQueue = new ArrayQueue(2, true, true);
+        for (int i = 1; i <= 10; i++) {
+            growingQueue.enque(i * 10);
+        }
+        System.out.println("Size after 10 enques: " + growingQueue.size() + ", capacity: " + growingQueue.capacity);
+        while (growingQueue.size() > 1) {
+            growingQueue.deque();
+        }
+        System.out.println("Front after draining: " + growingQueue.getFront() + ", capacity: " + growingQueue.capacity);
+
+        // Test 14: Operation counters (filled in only when run with -Ddsa.stats=true).
+        System.out.println("\nTest 14: Stats of the growable queue:");
+        System.out.println(growingQueue.stats());
+
+        // Test 15: Stream a wrapped-around queue, sequentially and in parallel.
+        System.out.println("\nTest 15: Streaming a large queue:");
+        ArrayQueue bigQueue = new ArrayQueue(1 << 20);
+        for (int i = 0; i < 1000; i++) {
+            bigQueue.enque(i);
+            bigQueue.deque(); // move the head so that the elements wrap around the buffer end
+        }
+        for (int i = 1; i <= 1 << 20; i++) {
+            bigQueue.enque(i);
+        }
+        System.out.println("Sum: " + bigQueue.intStream().asLongStream().sum()
+                + ", parallel even count: " + bigQueue.intStream().parallel().filter(v -> v % 2 == 0).count());
+        PrimitiveIterator.OfInt first = bigQueue.iterator();
+        System.out.println("First three: " + first.nextInt() + " " + first.nextInt() + " " + first.nextInt());
     }
 }
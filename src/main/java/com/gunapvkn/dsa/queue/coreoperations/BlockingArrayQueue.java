@@ -0,0 +1,335 @@
+package com.gunapvkn.dsa.queue.coreoperations;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * BlockingArrayQueue is a bounded FIFO (First In, First Out) int queue for producer/consumer setups.
+ * Besides the {@link ArrayQueue} operations it offers blocking {@code put}/{@code take}, timed
+ * {@code offer}/{@code poll} and a batched {@code drainTo}, so callers wait for space or data instead of
+ * catching "Queue is full"/"Queue is empty" and spinning.
+ *
+ * <p>Elements live in the same power-of-two ring buffer as {@link ArrayQueue}. All access goes through one
+ * {@link ReentrantLock} with a "not empty" and a "not full" {@link Condition}. Waiting on a Condition parks the
+ * thread rather than blocking inside a {@code synchronized} monitor, so a virtual thread waiting here
+ * unmounts from its carrier thread instead of pinning it.
+ */
+public class BlockingArrayQueue {
+    private final int[] arr;       // Ring buffer storing queue elements (length is a power of two)
+    private final int mask;        // arr.length - 1, used to wrap indices
+    private final int capacity;    // Maximum number of elements the queue can hold
+    private int head;              // Index of the front element inside arr
+    private int size;              // Current number of elements
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition(); // Signalled when an element is added
+    private final Condition notFull = lock.newCondition();  // Signalled when space is freed
+
+    /**
+     * Constructor to initialize the queue with a specified capacity.
+     * @param capacity The maximum number of elements the queue can hold.
+     * @throws IllegalArgumentException if capacity is not positive or too large.
+     */
+    public BlockingArrayQueue(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Invalid capacity: " + capacity);
+        }
+        int length = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.arr = new int[length];
+        this.mask = length - 1;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns the current number of elements in the queue.
+     * @return The size of the queue.
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Checks if the queue is empty.
+     * @return true if the queue is empty; false otherwise.
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Checks if the queue is full.
+     * @return true if the queue is full; false otherwise.
+     */
+    public boolean isFull() {
+        return size() == capacity;
+    }
+
+    /**
+     * Retrieves the front element of the queue without removing it.
+     * @return The element at the front of the queue.
+     * @throws RuntimeException if the queue is empty.
+     */
+    public int getFront() {
+        lock.lock();
+        try {
+            if (size == 0) {
+                throw new RuntimeException("Queue is empty");
+            }
+            return arr[head];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Prints the elements of the queue from the front to the rear.
+     */
+    public void printQueue() {
+        lock.lock();
+        try {
+            for (int i = 0; i < size; i++) {
+                System.out.println(arr[(head + i) & mask] + " ");
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds an element to the rear of the queue without waiting.
+     * @param value The element to add.
+     * @throws RuntimeException if the queue is full.
+     */
+    public void enque(int value) {
+        if (!offer(value)) {
+            throw new RuntimeException("Queue is full");
+        }
+    }
+
+    /**
+     * Removes and returns the front element of the queue without waiting.
+     * @return The element removed from the front of the queue.
+     * @throws RuntimeException if the queue is empty.
+     */
+    public int deque() {
+        lock.lock();
+        try {
+            if (size == 0) {
+                throw new RuntimeException("Queue is empty");
+            }
+            return remove();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds an element to the rear of the queue if there is room, without waiting.
+     * @param value The element to add.
+     * @return true if the element was added; false if the queue is full.
+     */
+    public boolean offer(int value) {
+        lock.lock();
+        try {
+            if (size == capacity) {
+                return false;
+            }
+            insert(value);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds an element to the rear of the queue, waiting up to the given time for space.
+     * @param value The element to add.
+     * @param timeout How long to wait before giving up.
+     * @param unit The unit of the timeout.
+     * @return true if the element was added; false if the timeout elapsed first.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    public boolean offer(int value, long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (size == capacity) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            insert(value);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds an element to the rear of the queue, waiting as long as necessary for space.
+     * @param value The element to add.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    public void put(int value) throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (size == capacity) {
+                notFull.await();
+            }
+            insert(value);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the front element, waiting as long as necessary for one to arrive.
+     * @return The element removed from the front of the queue.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    public int take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (size == 0) {
+                notEmpty.await();
+            }
+            return remove();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the front element, waiting up to the given time for one to arrive.
+     * @param timeout How long to wait before giving up.
+     * @param unit The unit of the timeout.
+     * @param valueIfEmpty The value to return if the timeout elapses with the queue still empty.
+     * @return The element removed from the front of the queue, or valueIfEmpty.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    public int poll(long timeout, TimeUnit unit, int valueIfEmpty) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (size == 0) {
+                if (nanos <= 0) {
+                    return valueIfEmpty;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return remove();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes up to {@code max} elements in FIFO order into {@code dst}, without waiting.
+     * The whole batch is moved under a single lock acquisition with at most two array copies,
+     * and all waiting producers are woken once afterwards.
+     * @param dst The array to fill, starting at index 0.
+     * @param max The maximum number of elements to move.
+     * @return The number of elements moved (0 if the queue was empty).
+     * @throws IllegalArgumentException if max is negative or larger than dst.length.
+     */
+    public int drainTo(int[] dst, int max) {
+        if (max < 0 || max > dst.length) {
+            throw new IllegalArgumentException("Invalid max: " + max);
+        }
+        lock.lock();
+        try {
+            int count = Math.min(max, size);
+            if (count == 0) {
+                return 0;
+            }
+            int firstRun = Math.min(count, arr.length - head);
+            System.arraycopy(arr, head, dst, 0, firstRun);
+            System.arraycopy(arr, 0, dst, firstRun, count - firstRun);
+            head = (head + count) & mask;
+            size -= count;
+            notFull.signalAll();
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Writes at the rear and wakes one consumer. Caller holds the lock and has checked for room. */
+    private void insert(int value) {
+        arr[(head + size) & mask] = value;
+        size++;
+        notEmpty.signal();
+    }
+
+    /** Reads from the front and wakes one producer. Caller holds the lock and has checked for data. */
+    private int remove() {
+        int element = arr[head];
+        head = (head + 1) & mask;
+        size--;
+        notFull.signal();
+        return element;
+    }
+
+    /**
+     * Main method to test BlockingArrayQueue operations.
+     * A fast producer fills a small queue while a slower consumer drains it in batches,
+     * so the producer is regularly blocked in put() waiting for space.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        BlockingArrayQueue queue = new BlockingArrayQueue(4);
+
+        // Test 1: Non-blocking operations behave like ArrayQueue.
+        System.out.println("Test 1: Enqueuing 10, 20 and dequeuing one");
+        queue.enque(10);
+        queue.enque(20);
+        System.out.println("Dequeued: " + queue.deque() + ", size: " + queue.size());
+
+        // Test 2: Timed poll on an empty queue gives up after the timeout.
+        queue.deque();
+        System.out.println("\nTest 2: Timed poll on an empty queue returned: "
+                + queue.poll(50, TimeUnit.MILLISECONDS, -1));
+
+        // Test 3: Timed offer on a full queue gives up after the timeout.
+        for (int i = 0; i < 4; i++) {
+            queue.put(i);
+        }
+        System.out.println("\nTest 3: Timed offer on a full queue returned: "
+                + queue.offer(99, 50, TimeUnit.MILLISECONDS));
+        int[] batch = new int[8];
+        System.out.println("Drained " + queue.drainTo(batch, batch.length) + " elements");
+
+        // Test 4: Producer blocked by backpressure, consumer draining in batches.
+        final int count = 100_000;
+        System.out.println("\nTest 4: Producer/consumer transferring " + count + " elements");
+        Thread producer = new Thread(() -> {
+            try {
+                for (int i = 0; i < count; i++) {
+                    queue.put(i);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+        int received = 0;
+        long sum = 0;
+        while (received < count) {
+            int first = queue.take(); // wait for at least one element, then grab the rest of the batch
+            sum += first;
+            int drained = queue.drainTo(batch, batch.length);
+            for (int i = 0; i < drained; i++) {
+                sum += batch[i];
+            }
+            received += 1 + drained;
+        }
+        producer.join();
+        System.out.println("Received " + received + " elements; sum matches? " + (sum == (long) count * (count - 1) / 2));
+    }
+}
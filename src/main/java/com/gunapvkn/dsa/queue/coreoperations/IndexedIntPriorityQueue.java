@@ -0,0 +1,397 @@
+package com.gunapvkn.dsa.queue.coreoperations;
+
+import java.util.Arrays;
+
+/**
+ * IndexedIntPriorityQueue is a min-priority queue of int keys built on a d-ary heap in flat arrays.
+ * Every entry is identified by a caller-chosen handle in [0, capacity), such as a vertex number in Dijkstra's
+ * algorithm. The handle allows the key of an entry to be lowered ({@link #decreaseKey}) or the entry removed
+ * ({@link #remove}) in O(log n) without searching for it.
+ *
+ * <p>The heap stores keys and handles in two parallel arrays in heap order, so the d children of node i,
+ * at indices {@code d*i + 1 ... d*i + d}, sit next to each other, and picking the smallest is a scan of one or
+ * two cache lines. A {@code position} array maps each handle to its heap index. Compared with a binary heap, a
+ * 4-ary heap is half as deep, which makes inserts and decreaseKey cheaper. Polls compare more children per
+ * level, but those comparisons are on contiguous memory. Nothing is boxed, and no operation allocates.
+ */
+public class IndexedIntPriorityQueue {
+    /** Default number of children per node. */
+    public static final int DEFAULT_ARITY = 4;
+
+    private final int arity;          // Number of children per heap node (d)
+    private final int[] heapKeys;     // Keys in heap order; heapKeys[0] is the minimum
+    private final int[] heapHandles;  // heapHandles[i] is the handle of the entry at heap index i
+    private final int[] position;     // position[handle] is its heap index, or -1 if the handle is not queued
+    private int size;                 // Current number of entries
+
+    /**
+     * Constructor to create an empty queue of a 4-ary heap.
+     * @param capacity The number of handles; valid handles are 0 to capacity-1.
+     */
+    public IndexedIntPriorityQueue(int capacity) {
+        this(capacity, DEFAULT_ARITY);
+    }
+
+    /**
+     * Constructor to create an empty queue.
+     * @param capacity The number of handles; valid handles are 0 to capacity-1.
+     * @param arity The number of children per heap node, at least 2.
+     * @throws IllegalArgumentException if capacity is negative or arity is less than 2.
+     */
+    public IndexedIntPriorityQueue(int capacity, int arity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Invalid capacity: " + capacity);
+        }
+        if (arity < 2) {
+            throw new IllegalArgumentException("Invalid arity: " + arity);
+        }
+        this.arity = arity;
+        this.heapKeys = new int[capacity];
+        this.heapHandles = new int[capacity];
+        this.position = new int[capacity];
+        Arrays.fill(position, -1);
+    }
+
+    /**
+     * Constructor to build a queue holding all the given keys in O(n), with keys[i] queued under handle i.
+     * The heap is built bottom-up (Floyd's method) instead of by n separate inserts.
+     * @param keys The initial keys; the array is copied, not kept.
+     * @param arity The number of children per heap node, at least 2.
+     * @throws IllegalArgumentException if arity is less than 2.
+     */
+    public IndexedIntPriorityQueue(int[] keys, int arity) {
+        this(keys.length, arity);
+        System.arraycopy(keys, 0, heapKeys, 0, keys.length);
+        for (int i = 0; i < keys.length; i++) {
+            heapHandles[i] = i;
+            position[i] = i;
+        }
+        size = keys.length;
+        // Sift down every internal node, from the last one (the parent of size-1) up to the root.
+        // floorDiv rounds down, so heaps of 0 or 1 entries have no internal node and skip the loop.
+        for (int i = Math.floorDiv(size - 2, arity); i >= 0; i--) {
+            siftDown(i);
+        }
+    }
+
+    /**
+     * Returns the current number of entries in the queue.
+     * @return The size of the queue.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the queue is empty.
+     * @return true if the queue is empty; false otherwise.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of handles, which is also the maximum number of entries.
+     * @return The capacity of the queue.
+     */
+    public int capacity() {
+        return position.length;
+    }
+
+    /**
+     * Checks whether a handle is currently queued.
+     * @param handle The handle to check.
+     * @return true if the handle is in the queue; false otherwise.
+     * @throws IllegalArgumentException if the handle is out of range.
+     */
+    public boolean contains(int handle) {
+        return position[checkHandle(handle)] != -1;
+    }
+
+    /**
+     * Returns the key of a queued handle.
+     * @param handle The handle to look up.
+     * @return The key currently associated with the handle.
+     * @throws IllegalArgumentException if the handle is out of range or not in the queue.
+     */
+    public int keyOf(int handle) {
+        return heapKeys[queuedPosition(handle)];
+    }
+
+    /**
+     * Adds an entry.
+     * @param handle The handle of the new entry; it must not be queued already.
+     * @param key The key (priority) of the entry; smaller keys are polled first.
+     * @throws IllegalArgumentException if the handle is out of range or already in the queue.
+     */
+    public void offer(int handle, int key) {
+        if (position[checkHandle(handle)] != -1) {
+            throw new IllegalArgumentException("Handle already in queue: " + handle);
+        }
+        heapKeys[size] = key;
+        heapHandles[size] = handle;
+        position[handle] = size;
+        siftUp(size++);
+    }
+
+    /**
+     * Lowers the key of a queued entry and restores the heap order by moving it up.
+     * @param handle The handle of the entry.
+     * @param key The new key; must not be greater than the current one.
+     * @throws IllegalArgumentException if the handle is not queued or the key is greater than the current key.
+     */
+    public void decreaseKey(int handle, int key) {
+        int index = queuedPosition(handle);
+        if (key > heapKeys[index]) {
+            throw new IllegalArgumentException("New key " + key + " is greater than current key " + heapKeys[index]);
+        }
+        heapKeys[index] = key;
+        siftUp(index);
+    }
+
+    /**
+     * Removes a queued entry, wherever it is in the heap.
+     * @param handle The handle of the entry to remove.
+     * @return The key the entry had.
+     * @throws IllegalArgumentException if the handle is not queued.
+     */
+    public int remove(int handle) {
+        int index = queuedPosition(handle);
+        int key = heapKeys[index];
+        removeAt(index);
+        return key;
+    }
+
+    /**
+     * Returns the smallest key without removing it.
+     * @return The minimum key.
+     * @throws RuntimeException if the queue is empty.
+     */
+    public int peekKey() {
+        if (isEmpty()) {
+            throw new RuntimeException("Queue is empty");
+        }
+        return heapKeys[0];
+    }
+
+    /**
+     * Returns the handle of the entry with the smallest key without removing it.
+     * @return The handle of the minimum entry.
+     * @throws RuntimeException if the queue is empty.
+     */
+    public int peekHandle() {
+        if (isEmpty()) {
+            throw new RuntimeException("Queue is empty");
+        }
+        return heapHandles[0];
+    }
+
+    /**
+     * Removes the entry with the smallest key and returns its handle; use peekKey() first if the key is needed.
+     * @return The handle of the removed entry.
+     * @throws RuntimeException if the queue is empty.
+     */
+    public int pollHandle() {
+        if (isEmpty()) {
+            throw new RuntimeException("Queue is empty");
+        }
+        int handle = heapHandles[0];
+        removeAt(0);
+        return handle;
+    }
+
+    /**
+     * Removes up to handles.length entries in ascending key order and stores their handles, and optionally
+     * their keys, in the given arrays. Nothing is allocated, so a top-k loop can reuse the same arrays.
+     * @param handles Receives the handles of the removed entries, smallest key first.
+     * @param keys Receives the matching keys, or null if they are not needed.
+     * @return The number of entries removed: the smaller of handles.length and size().
+     * @throws IllegalArgumentException if keys is too short to hold that many keys; nothing is removed then.
+     */
+    public int pollN(int[] handles, int[] keys) {
+        int count = Math.min(handles.length, size);
+        if (keys != null && keys.length < count) {
+            throw new IllegalArgumentException("Keys array holds " + keys.length + " entries, " + count + " needed");
+        }
+        for (int i = 0; i < count; i++) {
+            if (keys != null) {
+                keys[i] = heapKeys[0];
+            }
+            handles[i] = heapHandles[0];
+            removeAt(0);
+        }
+        return count;
+    }
+
+    /**
+     * Prints the entries in heap order as key(handle); the first one is the minimum.
+     */
+    public void printQueue() {
+        for (int i = 0; i < size; i++) {
+            System.out.print(heapKeys[i] + "(" + heapHandles[i] + ") ");
+        }
+        System.out.println();
+    }
+
+    /** Removes the entry at a heap index by moving the last entry into its place. */
+    private void removeAt(int index) {
+        position[heapHandles[index]] = -1;
+        int last = --size;
+        if (index == last) {
+            return;
+        }
+        int movedKey = heapKeys[last];
+        heapKeys[index] = movedKey;
+        heapHandles[index] = heapHandles[last];
+        position[heapHandles[index]] = index;
+        // The moved entry can belong above or below its new place, depending on the subtree it landed in.
+        if (index > 0 && movedKey < heapKeys[(index - 1) / arity]) {
+            siftUp(index);
+        } else {
+            siftDown(index);
+        }
+    }
+
+    /** Moves the entry at index up while its parent has a larger key, shifting parents down into the hole. */
+    private void siftUp(int index) {
+        int key = heapKeys[index];
+        int handle = heapHandles[index];
+        while (index > 0) {
+            int parent = (index - 1) / arity;
+            if (heapKeys[parent] <= key) {
+                break;
+            }
+            place(index, heapKeys[parent], heapHandles[parent]);
+            index = parent;
+        }
+        place(index, key, handle);
+    }
+
+    /** Moves the entry at index down while some child has a smaller key, shifting that child up into the hole. */
+    private void siftDown(int index) {
+        int key = heapKeys[index];
+        int handle = heapHandles[index];
+        while (true) {
+            int first = arity * index + 1;
+            if (first >= size) {
+                break;
+            }
+            // Smallest of the (up to) d contiguous children.
+            int end = Math.min(first + arity, size);
+            int best = first;
+            for (int child = first + 1; child < end; child++) {
+                if (heapKeys[child] < heapKeys[best]) {
+                    best = child;
+                }
+            }
+            if (heapKeys[best] >= key) {
+                break;
+            }
+            place(index, heapKeys[best], heapHandles[best]);
+            index = best;
+        }
+        place(index, key, handle);
+    }
+
+    private void place(int index, int key, int handle) {
+        heapKeys[index] = key;
+        heapHandles[index] = handle;
+        position[handle] = index;
+    }
+
+    private int checkHandle(int handle) {
+        if (handle < 0 || handle >= position.length) {
+            throw new IllegalArgumentException("Invalid handle: " + handle);
+        }
+        return handle;
+    }
+
+    private int queuedPosition(int handle) {
+        int index = position[checkHandle(handle)];
+        if (index == -1) {
+            throw new IllegalArgumentException("Handle not in queue: " + handle);
+        }
+        return index;
+    }
+
+    /**
+     * Main method to test IndexedIntPriorityQueue operations, including Dijkstra's algorithm on a small graph
+     * and a top-k selection.
+     */
+    public static void main(String[] args) {
+        // Test 1: Offer entries and poll them in key order.
+        System.out.println("Test 1: Offering keys 50, 20, 40, 10, 30 under handles 0..4");
+        IndexedIntPriorityQueue queue = new IndexedIntPriorityQueue(8);
+        int[] keys = {50, 20, 40, 10, 30};
+        for (int handle = 0; handle < keys.length; handle++) {
+            queue.offer(handle, keys[handle]);
+        }
+        queue.printQueue();
+        System.out.println("Min key: " + queue.peekKey() + " (handle " + queue.peekHandle() + ")"); // 10 (3)
+
+        // Test 2: Decrease a key, remove an entry by handle, then drain.
+        System.out.println("\nTest 2: decreaseKey(handle 0, 5), remove(handle 1), then poll all");
+        queue.decreaseKey(0, 5);
+        System.out.println("Removed handle 1 with key " + queue.remove(1));
+        StringBuilder polled = new StringBuilder();
+        while (!queue.isEmpty()) {
+            polled.append(queue.peekKey()).append(" ");
+            queue.pollHandle();
+        }
+        System.out.println("Polled keys: " + polled.toString().trim()); // 5 10 30 40
+
+        // Test 3: Misuse is reported with exceptions.
+        System.out.println("\nTest 3: Polling an empty queue and decreasing to a larger key:");
+        try {
+            queue.pollHandle();
+        } catch (RuntimeException e) {
+            System.out.println("Caught exception: " + e.getMessage());
+        }
+        queue.offer(2, 7);
+        try {
+            queue.decreaseKey(2, 9);
+        } catch (IllegalArgumentException e) {
+            System.out.println("Caught exception: " + e.getMessage());
+        }
+
+        // Test 4: Dijkstra's algorithm; vertices are the handles and tentative distances the keys.
+        System.out.println("\nTest 4: Shortest distances from vertex 0");
+        int[][][] graph = {                      // graph[v] = {{to, weight}, ...}
+                {{1, 4}, {2, 1}},
+                {{3, 1}},
+                {{1, 2}, {3, 5}},
+                {{4, 3}},
+                {}
+        };
+        int[] distance = new int[graph.length];
+        Arrays.fill(distance, Integer.MAX_VALUE);
+        distance[0] = 0;
+        IndexedIntPriorityQueue frontier = new IndexedIntPriorityQueue(graph.length);
+        frontier.offer(0, 0);
+        while (!frontier.isEmpty()) {
+            int vertex = frontier.pollHandle();
+            for (int[] edge : graph[vertex]) {
+                int candidate = distance[vertex] + edge[1];
+                if (candidate < distance[edge[0]]) {
+                    distance[edge[0]] = candidate;
+                    if (frontier.contains(edge[0])) {
+                        frontier.decreaseKey(edge[0], candidate);
+                    } else {
+                        frontier.offer(edge[0], candidate);
+                    }
+                }
+            }
+        }
+        System.out.println("Distances: " + Arrays.toString(distance)); // [0, 3, 1, 4, 7]
+
+        // Test 5: Heapify a batch of scores and take the three smallest in one call.
+        System.out.println("\nTest 5: Heapify 8 scores and pollN(3)");
+        int[] scores = {42, 17, 99, 8, 23, 64, 15, 31};
+        IndexedIntPriorityQueue batch = new IndexedIntPriorityQueue(scores, DEFAULT_ARITY);
+        int[] topHandles = new int[3];
+        int[] topKeys = new int[3];
+        int count = batch.pollN(topHandles, topKeys);
+        System.out.println("Smallest " + count + " keys: " + Arrays.toString(topKeys)
+                + ", handles: " + Arrays.toString(topHandles) + ", remaining: " + batch.size()); // [8, 15, 17], [3, 6, 1], 5
+    }
+}
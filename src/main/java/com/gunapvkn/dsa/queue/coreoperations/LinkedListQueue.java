@@ -1,18 +1,40 @@
 package com.gunapvkn.dsa.queue.coreoperations;
 
+import com.gunapvkn.dsa.stats.OperationStats;
+
 import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
 
 /**
  * LinkedListQueue is a simple implementation of a FIFO (First In, First Out) queue using a singly linked list.
  * It supports basic operations such as enqueuing, dequeuing, checking if the queue is empty,
  * retrieving the front element, and printing the contents of the queue.
+ *
+ * <p>Optionally, nodes released by {@link #deque()} are kept in a bounded free-list and handed out again by
+ * {@link #enque(int)}, so a queue at steady occupancy stops allocating. The free-list either belongs to the
+ * queue or is shared by all pooled queues used on the same thread (thread-local mode).
  */
 public class LinkedListQueue {
 
+    // Per-thread free-list shared by every queue created in thread-local pool mode.
+    private static final ThreadLocal<NodePool> THREAD_POOL = ThreadLocal.withInitial(NodePool::new);
+
     private Node head; // Reference to the first node in the queue (front of the queue)
     private int size;  // Current number of elements in the queue
     private Node tail; // Reference to the last node in the queue (rear of the queue)
 
+    private final int poolCapacity;        // Maximum number of recycled nodes kept (0 = pooling disabled)
+    private final boolean threadLocalPool; // Use the calling thread's pool instead of a private one
+    private final NodePool pool;           // Private free-list (null unless pooling without thread-local mode)
+    private long poolHits;                 // Enques served by a recycled node
+    private long poolMisses;               // Enques that had to allocate while pooling was enabled
+
+    private final OperationStats stats = OperationStats.forInstance(this); // Counters, only filled with -Ddsa.stats=true
+
     /**
      * Inner static class representing a node in the linked list.
      */
@@ -29,6 +51,37 @@ public class LinkedListQueue {
         }
     }
 
+    /**
+     * Free-list of recycled nodes, linked through their next references.
+     */
+    static final class NodePool {
+        Node top;  // Most recently recycled node
+        int count; // Number of nodes in the free-list
+    }
+
+    /**
+     * Constructor to create an empty queue without node recycling.
+     */
+    public LinkedListQueue() {
+        this(0, false);
+    }
+
+    /**
+     * Constructor to create an empty queue that recycles dequeued nodes.
+     * @param poolCapacity The maximum number of spare nodes to keep; 0 disables pooling.
+     * @param threadLocalPool true to share one free-list per thread across all such queues,
+     *                        false to give this queue its own free-list.
+     * @throws IllegalArgumentException if poolCapacity is negative.
+     */
+    public LinkedListQueue(int poolCapacity, boolean threadLocalPool) {
+        if (poolCapacity < 0) {
+            throw new IllegalArgumentException("Invalid pool capacity: " + poolCapacity);
+        }
+        this.poolCapacity = poolCapacity;
+        this.threadLocalPool = poolCapacity > 0 && threadLocalPool;
+        this.pool = poolCapacity > 0 && !threadLocalPool ? new NodePool() : null;
+    }
+
     /**
      * Returns the number of elements currently in the queue.
      * @return The size of the queue.
@@ -57,6 +110,40 @@ public class LinkedListQueue {
         return head.value;
     }
 
+    /**
+     * Returns the operation counters of this queue. No elements are ever moved, so only
+     * operations, rejections, peak size and latency are of interest.
+     * @return The stats object; {@link OperationStats#DISABLED} unless run with -Ddsa.stats=true.
+     */
+    public OperationStats stats() {
+        return stats;
+    }
+
+    /**
+     * Returns the number of enques that reused a pooled node.
+     * @return The pool hit count.
+     */
+    public long poolHits() {
+        return poolHits;
+    }
+
+    /**
+     * Returns the number of enques that allocated a new node while pooling was enabled.
+     * @return The pool miss count.
+     */
+    public long poolMisses() {
+        return poolMisses;
+    }
+
+    /**
+     * Returns the fraction of enques served from the pool.
+     * @return A value between 0 and 1, or 0 if pooling is disabled or nothing was enqueued yet.
+     */
+    public double poolHitRate() {
+        long total = poolHits + poolMisses;
+        return total == 0 ? 0.0 : (double) poolHits / total;
+    }
+
     /**
      * Prints the elements of the queue from front to rear.
      */
@@ -69,12 +156,60 @@ public class LinkedListQueue {
         System.out.println(); // New line for better readability
     }
 
+    /**
+     * Returns an iterator over the elements from front to rear.
+     * Enqueuing or dequeuing while it is in use is not detected and leads to undefined results.
+     * @return A primitive iterator; it does not support remove().
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private Node current = head; // Next node to return
+
+            @Override
+            public boolean hasNext() {
+                return current != null;
+            }
+
+            @Override
+            public int nextInt() {
+                if (current == null) {
+                    throw new NoSuchElementException();
+                }
+                int value = current.value;
+                current = current.next;
+                return value;
+            }
+        };
+    }
+
+    /**
+     * Returns a spliterator over the elements from front to rear that reports ORDERED, SIZED and SUBSIZED.
+     * A linked list cannot be split in the middle without walking to it, so each split copies the next batch
+     * of elements into an array (1024 more per split) and hands that out; this is the splitting that
+     * {@link Spliterators#spliterator(PrimitiveIterator.OfInt, long, int)} provides for an iterator of known size.
+     * Parallel streams therefore scale once the per-element work outweighs the sequential walk.
+     * @return A spliterator over the current elements.
+     */
+    public Spliterator.OfInt spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED);
+    }
+
+    /**
+     * Returns a sequential stream of the elements from front to rear; call parallel() on it to split the
+     * traversal across the common fork-join pool.
+     * @return An IntStream over the current elements.
+     */
+    public IntStream intStream() {
+        return StreamSupport.intStream(spliterator(), false);
+    }
+
     /**
      * Adds an element to the rear of the queue.
      * @param value The value to be added to the queue.
      */
     public void enque(int value) {
-        Node newNode = new Node(value);
+        long start = OperationStats.start();
+        Node newNode = newNode(value);
         // If the queue is empty, the new node is both the head and tail.
         if (isEmpty()) {
             head = tail = newNode;
@@ -84,6 +219,9 @@ public class LinkedListQueue {
             tail = newNode;
         }
         size++; // Increase the size after adding an element
+        if (OperationStats.ENABLED) {
+            stats.completed("enque", start, 0, size);
+        }
     }
 
     /**
@@ -93,20 +231,65 @@ public class LinkedListQueue {
      * @throws RuntimeException if the queue is empty.
      */
     public int deque() {
+        long start = OperationStats.start();
         if (isEmpty()) {
+            if (OperationStats.ENABLED) {
+                stats.rejected("deque", start, 0);
+            }
             throw new RuntimeException("Queue is empty");
         }
-        int element = head.value;
-        head = head.next; // Move the head to the next element
+        Node removed = head;
+        int element = removed.value;
+        head = removed.next; // Move the head to the next element
         size--;         // Decrement the size after removal
 
         // If the queue becomes empty, reset the tail to null.
         if (isEmpty()) {
             tail = null;
         }
+        recycle(removed);
+        if (OperationStats.ENABLED) {
+            stats.completed("deque", start, 0, size);
+        }
         return element;
     }
 
+    /**
+     * Returns a node holding the value, taken from the free-list when one is available.
+     */
+    private Node newNode(int value) {
+        if (poolCapacity == 0) {
+            return new Node(value);
+        }
+        NodePool nodes = threadLocalPool ? THREAD_POOL.get() : pool;
+        Node node = nodes.top;
+        if (node == null) {
+            poolMisses++;
+            return new Node(value);
+        }
+        nodes.top = node.next;
+        nodes.count--;
+        poolHits++;
+        node.value = value;
+        node.next = null;
+        return node;
+    }
+
+    /**
+     * Puts a dequeued node on the free-list unless pooling is disabled or the list is at capacity.
+     */
+    private void recycle(Node node) {
+        if (poolCapacity == 0) {
+            return;
+        }
+        NodePool nodes = threadLocalPool ? THREAD_POOL.get() : pool;
+        if (nodes.count < poolCapacity) {
+            node.next = nodes.top;
+            nodes.top = node;
+            nodes.count++;
+        }
+    }
+
     /**
      * Main method to test the LinkedListQueue operations.
      * This method demonstrates enqueuing, dequeuing, checking status, and handling exceptions.
@@ -169,5 +352,28 @@ public class LinkedListQueue {
         queue.enque(70);
         System.out.println("Queue contents:");
         queue.printQueue();
+
+        // Test 11: A pooled queue at steady occupancy reuses its nodes instead of allocating.
+        System.out.println("\nTest 11: Steady-state enque/deque with a node pool of 16:");
+        LinkedListQueue pooled = new LinkedListQueue(16, false);
+        for (int i = 0; i < 10; i++) {
+            pooled.enque(i);
+        }
+        for (int i = 0; i < 1000; i++) {
+            pooled.enque(pooled.deque());
+        }
+        System.out.println("Pool hits: " + pooled.poolHits() + ", misses: " + pooled.poolMisses()
+                + ", hit rate: " + pooled.poolHitRate());
+
+        // Test 12: Stream the queue, sequentially and in parallel.
+        System.out.println("\nTest 12: Streaming a queue of 1..100000:");
+        LinkedListQueue bigQueue = new LinkedListQueue();
+        for (int i = 1; i <= 100_000; i++) {
+            bigQueue.enque(i);
+        }
+        System.out.println("Sum: " + bigQueue.intStream().asLongStream().sum()
+                + ", parallel multiples of 7: " + bigQueue.intStream().parallel().filter(v -> v % 7 == 0).count());
+        PrimitiveIterator.OfInt first = bigQueue.iterator();
+        System.out.println("First two: " + first.nextInt() + " " + first.nextInt());
     }
 }
@@ -0,0 +1,403 @@
+package com.gunapvkn.dsa.queue.coreoperations;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * MappedJournalQueue is a persistent FIFO (First In, First Out) int queue whose contents survive a process restart.
+ * It supports the same operations as {@link ArrayQueue}, but stores elements in memory-mapped segment files
+ * inside a directory instead of on the heap.
+ *
+ * <p>Every element gets a global sequence number. Sequence {@code s} lives in segment file
+ * {@code s / segmentSlots} at slot {@code s % segmentSlots}. Each slot is 8 bytes: a commit marker and the value.
+ * A freshly created segment is all zeros, so an unwritten slot is recognisable. Enque stores one long into the
+ * mapped tail segment and rolls over to a new file when the segment is full. Deque reads from the mapped head
+ * segment and stores the new head sequence in a small mapped cursor file. Once the head leaves a segment, that
+ * segment's file is deleted.
+ *
+ * <p>On open, the head is read from the cursor file and the tail is recovered by scanning the newest segment
+ * for its first uncommitted slot. Writes go to the OS page cache, so they survive a crash of the JVM process.
+ * Call {@link #sync()} to force them to disk when they must also survive a machine crash.
+ *
+ * <p>Instances are not thread-safe, and only one instance may use a directory at a time.
+ */
+public class MappedJournalQueue implements AutoCloseable {
+    public static final int DEFAULT_SEGMENT_SLOTS = 1 << 20; // 8 MiB of slots per segment file
+
+    private static final int MAGIC = 0x44534151;        // "DSAQ", first int of every segment file
+    private static final int HEADER_BYTES = 16;         // magic, slot count, reserved
+    private static final long COMMITTED = 1L << 32;     // Marker in the upper half of a written slot
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String TEMP_SUFFIX = ".tmp";   // A segment being created; renamed once its header is on disk
+    private static final String CURSOR_FILE = "cursor.pos";
+
+    private final Path directory;       // Directory holding segment files and the cursor file
+    private final int segmentSlots;     // Number of elements per segment file
+    private final MappedByteBuffer cursor; // Mapped 8-byte file holding the head sequence
+
+    private long head;                  // Sequence of the front element
+    private long tail;                  // Sequence the next enque will use
+    private MappedByteBuffer headSegment; // Mapping of segment head / segmentSlots
+    private MappedByteBuffer tailSegment; // Mapping of segment tail / segmentSlots
+    private long headSegmentIndex = -1;
+    private long tailSegmentIndex = -1;
+    private final Map<Long, MappedByteBuffer> unsynced = new HashMap<>(); // Earlier tail segments not yet forced
+    private boolean closed;
+
+    /**
+     * Opens (or creates) a queue in the given directory using the default segment size.
+     * @param directory The directory holding the queue files; created if missing.
+     * @throws IOException if the directory or its files cannot be read or created.
+     */
+    public MappedJournalQueue(Path directory) throws IOException {
+        this(directory, DEFAULT_SEGMENT_SLOTS);
+    }
+
+    /**
+     * Opens (or creates) a queue in the given directory, recovering head and tail from existing files.
+     * @param directory The directory holding the queue files; created if missing.
+     * @param segmentSlots The number of elements per segment file; must match the value used to create the queue.
+     * @throws IOException if the directory or its files cannot be read or created, or a segment has the wrong size.
+     */
+    public MappedJournalQueue(Path directory, int segmentSlots) throws IOException {
+        if (segmentSlots < 1 || segmentSlots > (Integer.MAX_VALUE - HEADER_BYTES) / 8) {
+            throw new IllegalArgumentException("Invalid segment size: " + segmentSlots);
+        }
+        this.directory = directory;
+        this.segmentSlots = segmentSlots;
+        Files.createDirectories(directory);
+        this.cursor = map(directory.resolve(CURSOR_FILE), Long.BYTES);
+        recover();
+    }
+
+    /**
+     * Returns the current number of elements in the queue.
+     * @return The size of the queue.
+     */
+    public long size() {
+        return tail - head;
+    }
+
+    /**
+     * Checks if the queue is empty.
+     * @return true if the queue is empty; false otherwise.
+     */
+    public boolean isEmpty() {
+        return head == tail;
+    }
+
+    /**
+     * Retrieves the front element of the queue without removing it.
+     * @return The element at the front of the queue.
+     * @throws RuntimeException if the queue is empty.
+     */
+    public int getFront() {
+        ensureOpen();
+        if (isEmpty()) {
+            throw new RuntimeException("Queue is empty");
+        }
+        return (int) headSegment().getLong(slotOffset(head));
+    }
+
+    /**
+     * Prints the elements of the queue from front to rear.
+     */
+    public void printQueue() {
+        ensureOpen();
+        MappedByteBuffer segment = null;
+        long segmentIndex = -1;
+        for (long sequence = head; sequence < tail; sequence++) {
+            if (sequence / segmentSlots != segmentIndex) {
+                segmentIndex = sequence / segmentSlots; // each segment is mapped once, not once per element
+                segment = segmentIndex == headSegmentIndex ? headSegment
+                        : segmentIndex == tailSegmentIndex ? tailSegment : mapSegment(segmentIndex);
+            }
+            System.out.print((int) segment.getLong(slotOffset(sequence)) + " ");
+        }
+        System.out.println();
+    }
+
+    /**
+     * Appends an element to the rear of the queue, rolling over to a new segment file when needed.
+     * @param value The element to add.
+     * @throws UncheckedIOException if a new segment file cannot be created.
+     */
+    public void enque(int value) {
+        ensureOpen();
+        long segmentIndex = tail / segmentSlots;
+        if (segmentIndex != tailSegmentIndex) {
+            if (tailSegment != null) {
+                unsynced.put(tailSegmentIndex, tailSegment); // its writes must still reach the disk on sync()
+            }
+            tailSegment = mapSegment(segmentIndex);
+            tailSegmentIndex = segmentIndex;
+        }
+        tailSegment.putLong(slotOffset(tail), COMMITTED | (value & 0xFFFFFFFFL));
+        tail++;
+    }
+
+    /**
+     * Removes and returns the front element of the queue and persists the new read position.
+     * The head segment file is deleted once all of its elements have been dequeued.
+     * @return The element removed from the front of the queue.
+     * @throws RuntimeException if the queue is empty.
+     */
+    public int deque() {
+        ensureOpen();
+        if (isEmpty()) {
+            throw new RuntimeException("Queue is empty");
+        }
+        int element = (int) headSegment().getLong(slotOffset(head));
+        head++;
+        cursor.putLong(0, head);
+        if (head % segmentSlots == 0) {
+            deleteSegment(head / segmentSlots - 1);
+        }
+        return element;
+    }
+
+    /**
+     * Forces all written elements and the read cursor to the storage device: the current tail segment and every
+     * segment the tail has rolled over from since the last sync.
+     */
+    public void sync() {
+        ensureOpen();
+        for (MappedByteBuffer segment : unsynced.values()) {
+            segment.force();
+        }
+        unsynced.clear();
+        if (tailSegment != null) {
+            tailSegment.force();
+        }
+        cursor.force();
+    }
+
+    /**
+     * Syncs the queue and releases it. The files stay on disk for the next open.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        sync();
+        closed = true;
+        headSegment = tailSegment = null;
+        unsynced.clear();
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Queue is closed");
+        }
+    }
+
+    /**
+     * Restores head and tail from the cursor file and the newest segment, and removes segment files that
+     * were fully consumed before a crash but not yet deleted.
+     */
+    private void recover() throws IOException {
+        List<Long> segments = listSegments();
+        if (segments.isEmpty()) {
+            head = tail = cursor.getLong(0);
+            return;
+        }
+        long newest = segments.get(segments.size() - 1);
+        MappedByteBuffer last = openSegment(newest);
+        int used = 0;
+        while (used < segmentSlots && (last.getLong(HEADER_BYTES + used * 8) & ~0xFFFFFFFFL) == COMMITTED) {
+            used++;
+        }
+        tail = newest * segmentSlots + used;
+        tailSegment = last;
+        tailSegmentIndex = newest;
+
+        long oldest = segments.get(0) * segmentSlots;
+        head = Math.min(Math.max(cursor.getLong(0), oldest), tail);
+        for (long segment : segments) {
+            if ((segment + 1) * segmentSlots <= head && segment != newest) {
+                Files.deleteIfExists(segmentPath(segment));
+            }
+        }
+    }
+
+    /**
+     * Lists the segment indexes in ascending order and deletes segments a crash left half-created.
+     */
+    private List<Long> listSegments() throws IOException {
+        List<Long> segments = new ArrayList<>();
+        List<Path> halfCreated = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(path -> {
+                String name = path.getFileName().toString();
+                if (name.endsWith(SEGMENT_SUFFIX)) {
+                    segments.add(Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length())));
+                } else if (name.endsWith(SEGMENT_SUFFIX + TEMP_SUFFIX)) {
+                    halfCreated.add(path);
+                }
+            });
+        }
+        for (Path path : halfCreated) {
+            Files.deleteIfExists(path);
+        }
+        Collections.sort(segments);
+        return segments;
+    }
+
+    private MappedByteBuffer headSegment() {
+        long segmentIndex = head / segmentSlots;
+        if (segmentIndex != headSegmentIndex) {
+            headSegment = segmentIndex == tailSegmentIndex ? tailSegment : mapSegment(segmentIndex);
+            headSegmentIndex = segmentIndex;
+        }
+        return headSegment;
+    }
+
+    /**
+     * Maps a segment file, creating it first if it does not exist yet.
+     * @throws IOException if the file cannot be created or mapped, or was written with another segment size.
+     */
+    private MappedByteBuffer openSegment(long segmentIndex) throws IOException {
+        Path path = segmentPath(segmentIndex);
+        if (Files.notExists(path)) {
+            createSegment(path);
+        }
+        MappedByteBuffer segment = map(path, segmentBytes());
+        if (segment.getInt(0) != MAGIC || segment.getInt(4) != segmentSlots) {
+            throw new IOException("Segment " + path + " was not written with " + segmentSlots + " slots");
+        }
+        return segment;
+    }
+
+    /**
+     * {@link #openSegment} for the queue operations, which cannot throw checked exceptions.
+     */
+    private MappedByteBuffer mapSegment(long segmentIndex) {
+        try {
+            return openSegment(segmentIndex);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Creates a segment file under a temporary name, writes and forces its header, and then renames it into
+     * place atomically. A crash at any point leaves either no segment or a complete header, never a zero-filled
+     * segment that every later open would reject; the temporary file is removed by the next recovery.
+     */
+    private void createSegment(Path path) throws IOException {
+        Path temp = path.resolveSibling(path.getFileName() + TEMP_SUFFIX);
+        Files.deleteIfExists(temp);
+        MappedByteBuffer segment = map(temp, segmentBytes());
+        segment.putInt(0, MAGIC);
+        segment.putInt(4, segmentSlots);
+        segment.force();
+        Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private long segmentBytes() {
+        return HEADER_BYTES + (long) segmentSlots * 8;
+    }
+
+    private void deleteSegment(long segmentIndex) {
+        if (segmentIndex == headSegmentIndex) {
+            headSegment = null;
+            headSegmentIndex = -1;
+        }
+        unsynced.remove(segmentIndex); // fully consumed, so there is nothing left to force
+        try {
+            // The mapping itself is released when the buffer is garbage collected.
+            Files.deleteIfExists(segmentPath(segmentIndex));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path segmentPath(long segmentIndex) {
+        return directory.resolve(String.format("%020d%s", segmentIndex, SEGMENT_SUFFIX));
+    }
+
+    private int slotOffset(long sequence) {
+        return HEADER_BYTES + (int) (sequence % segmentSlots) * 8;
+    }
+
+    private static MappedByteBuffer map(Path path, long bytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+            buffer.order(ByteOrder.nativeOrder());
+            return buffer;
+        }
+    }
+
+    /**
+     * Main method to test MappedJournalQueue operations.
+     * Writes to a temporary directory, reopens the queue to show that head and tail are recovered,
+     * and drains it across several segment files.
+     */
+    public static void main(String[] args) throws IOException {
+        Path directory = Files.createTempDirectory("journal-queue");
+
+        // Test 1: Enqueue across several small segments, dequeue a few, and close.
+        System.out.println("Test 1: Enqueuing 0..9 into segments of 4 slots and dequeuing 5");
+        try (MappedJournalQueue queue = new MappedJournalQueue(directory, 4)) {
+            for (int i = 0; i < 10; i++) {
+                queue.enque(i);
+            }
+            for (int i = 0; i < 5; i++) {
+                System.out.print(queue.deque() + " ");
+            }
+            System.out.println("\nSize before close: " + queue.size());
+        }
+
+        // Test 2: Reopen; the remaining elements come back in order.
+        System.out.println("\nTest 2: Reopening the queue");
+        try (MappedJournalQueue queue = new MappedJournalQueue(directory, 4)) {
+            System.out.println("Recovered size: " + queue.size() + ", front: " + queue.getFront());
+            queue.printQueue();
+            queue.enque(100);
+            while (!queue.isEmpty()) {
+                System.out.print(queue.deque() + " ");
+            }
+            System.out.println();
+            try (Stream<Path> files = Files.list(directory)) {
+                System.out.println("Files left: " + files.map(p -> p.getFileName().toString()).sorted().toList());
+            }
+            try {
+                queue.deque();
+            } catch (RuntimeException e) {
+                System.out.println("Caught exception: " + e.getMessage());
+            }
+        }
+
+        // Test 3: Throughput with the default segment size.
+        Path bulkDirectory = Files.createTempDirectory("journal-queue-bulk");
+        final int count = 5_000_000;
+        try (MappedJournalQueue queue = new MappedJournalQueue(bulkDirectory)) {
+            long start = System.nanoTime();
+            for (int i = 0; i < count; i++) {
+                queue.enque(i);
+            }
+            long sum = 0;
+            while (!queue.isEmpty()) {
+                sum += queue.deque();
+            }
+            long millis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+            System.out.println("\nTest 3: " + count + " enques + deques in " + millis + " ms; sum matches? "
+                    + (sum == (long) count * (count - 1) / 2));
+        }
+    }
+}
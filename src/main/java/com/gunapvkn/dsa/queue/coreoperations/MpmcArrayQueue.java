@@ -0,0 +1,299 @@
+package com.gunapvkn.dsa.queue.coreoperations;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * MpmcArrayQueue is a bounded, lock-free FIFO queue that any number of producer and consumer threads may share.
+ * It exposes the same int-valued {@code enque}/{@code deque} contract as {@link ArrayQueue}, plus non-throwing
+ * {@code offer}/{@code poll} variants.
+ *
+ * <p>Every slot carries its own sequence number (Dmitry Vyukov's bounded MPMC design). A slot whose sequence
+ * equals the producer's ticket is free to write; one whose sequence equals the consumer's ticket + 1 holds a
+ * value. Threads claim tickets with a CAS on the shared tail or head counter and then publish the slot by
+ * advancing its sequence, so producers and consumers only contend with their own kind and never take a lock.
+ */
+public final class MpmcArrayQueue extends MpmcPadAfterHead {
+
+    /**
+     * Constructor to initialize the queue with a specified capacity.
+     * The capacity is rounded up to the next power of two (minimum 2).
+     * @param capacity The minimum number of elements the queue can hold.
+     * @throws IllegalArgumentException if capacity is not positive or too large.
+     */
+    public MpmcArrayQueue(int capacity) {
+        super(capacity);
+    }
+
+    /**
+     * Returns the maximum number of elements the queue can hold.
+     * @return The capacity of the queue (a power of two).
+     */
+    public int capacity() {
+        return buffer.length;
+    }
+
+    /**
+     * Returns a snapshot of the number of elements in the queue.
+     * Under concurrent use the value may be stale by the time it is returned.
+     * @return The size of the queue.
+     */
+    public int size() {
+        long head = (long) HEAD.getVolatile(this);
+        long tail = (long) TAIL.getVolatile(this);
+        return (int) Math.max(0, Math.min(tail - head, buffer.length));
+    }
+
+    /**
+     * Checks if the queue is empty.
+     * @return true if the queue was empty at the time of the call; false otherwise.
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Adds an element to the rear of the queue if there is room.
+     * @param value The element to add.
+     * @return true if the element was added; false if the queue is full.
+     */
+    public boolean offer(int value) {
+        long tail = (long) TAIL.getVolatile(this);
+        while (true) {
+            int index = (int) tail & mask;
+            long sequence = (long) SEQUENCE.getAcquire(sequences, index);
+            long difference = sequence - tail;
+            if (difference == 0) {
+                // Slot is free for this ticket; try to claim it.
+                if (TAIL.weakCompareAndSet(this, tail, tail + 1)) {
+                    buffer[index] = value;
+                    SEQUENCE.setRelease(sequences, index, tail + 1); // publish to consumers
+                    return true;
+                }
+            } else if (difference < 0) {
+                // The slot still holds a value from the previous lap: the queue is full.
+                return false;
+            }
+            // Lost the race (or saw a stale tail); retry with the current ticket.
+            tail = (long) TAIL.getVolatile(this);
+        }
+    }
+
+    /**
+     * Adds an element to the rear of the queue.
+     * @param value The element to add.
+     * @throws RuntimeException if the queue is full.
+     */
+    public void enque(int value) {
+        if (!offer(value)) {
+            throw new RuntimeException("Queue is full");
+        }
+    }
+
+    /**
+     * Removes and returns the front element of the queue, or a caller-chosen value if it is empty.
+     * @param valueIfEmpty The value to return when there is nothing to dequeue.
+     * @return The element removed from the front of the queue, or valueIfEmpty.
+     */
+    public int poll(int valueIfEmpty) {
+        long head = claimHead();
+        return head < 0 ? valueIfEmpty : take(head);
+    }
+
+    /**
+     * Removes and returns the front element of the queue.
+     * @return The element removed from the front of the queue.
+     * @throws RuntimeException if the queue is empty.
+     */
+    public int deque() {
+        long head = claimHead();
+        if (head < 0) {
+            throw new RuntimeException("Queue is empty");
+        }
+        return take(head);
+    }
+
+    /**
+     * Claims the consumer ticket of the front element with a CAS on head.
+     * @return The claimed ticket, or -1 if the queue is empty.
+     */
+    private long claimHead() {
+        long head = (long) HEAD.getVolatile(this);
+        while (true) {
+            int index = (int) head & mask;
+            long sequence = (long) SEQUENCE.getAcquire(sequences, index);
+            long difference = sequence - (head + 1);
+            if (difference == 0) {
+                // Slot holds the value for this ticket; try to claim it.
+                if (HEAD.weakCompareAndSet(this, head, head + 1)) {
+                    return head;
+                }
+            } else if (difference < 0) {
+                // No producer has published this slot yet: the queue is empty.
+                return -1;
+            }
+            head = (long) HEAD.getVolatile(this);
+        }
+    }
+
+    /** Reads the element of a claimed ticket and frees its slot for the producers' next lap. */
+    private int take(long head) {
+        int index = (int) head & mask;
+        int element = buffer[index];
+        SEQUENCE.setRelease(sequences, index, head + buffer.length); // free it for the next lap
+        return element;
+    }
+
+    /**
+     * Main method to test MpmcArrayQueue operations.
+     * Several producers and consumers share one queue; the demo checks that every element
+     * is delivered exactly once by comparing sums.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        MpmcArrayQueue queue = new MpmcArrayQueue(1024);
+        System.out.println("Test 1: Capacity: " + queue.capacity());
+
+        // Test 2: Single-threaded enque/deque and the empty/full exceptions.
+        System.out.println("\nTest 2: Filling the queue and overflowing it");
+        for (int i = 0; i < queue.capacity(); i++) {
+            queue.enque(i);
+        }
+        try {
+            queue.enque(-1);
+        } catch (RuntimeException e) {
+            System.out.println("Caught exception: " + e.getMessage());
+        }
+        while (!queue.isEmpty()) {
+            queue.deque();
+        }
+        System.out.println("Drained; size = " + queue.size());
+
+        // Test 3: Four producers and four consumers.
+        final int producers = 4, consumers = 4, perProducer = 250_000;
+        final long total = (long) producers * perProducer;
+        System.out.println("\nTest 3: " + producers + " producers x " + perProducer + " elements, " + consumers + " consumers");
+        AtomicLong consumed = new AtomicLong();
+        AtomicLong sum = new AtomicLong();
+        Thread[] threads = new Thread[producers + consumers];
+        for (int p = 0; p < producers; p++) {
+            threads[p] = new Thread(() -> {
+                for (int i = 1; i <= perProducer; i++) {
+                    while (!queue.offer(i)) {
+                        Thread.yield();
+                    }
+                }
+            });
+        }
+        for (int c = 0; c < consumers; c++) {
+            threads[producers + c] = new Thread(() -> {
+                long localSum = 0;
+                while (consumed.get() < total) {
+                    int value = queue.poll(0);
+                    if (value == 0) {
+                        Thread.yield();
+                        continue;
+                    }
+                    localSum += value;
+                    consumed.incrementAndGet();
+                }
+                sum.addAndGet(localSum);
+            });
+        }
+        long start = System.nanoTime();
+        for (Thread t : threads) {
+            t.start();
+        }
+        for (Thread t : threads) {
+            t.join();
+        }
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        long expectedSum = producers * ((long) perProducer * (perProducer + 1) / 2);
+        System.out.println("Consumed " + consumed.get() + " elements in " + millis + " ms; sum matches? " + (sum.get() == expectedSum));
+    }
+}
+
+// ─────────────────────────────────────── Field layout / padding ──────────────
+
+/**
+ * Same layout trick as {@link SpscArrayQueue}: the producer ticket (tail) and consumer ticket (head)
+ * live in different classes of an inheritance chain with padding between them, so producer CASes
+ * do not invalidate the consumers' cache line and vice versa.
+ */
+abstract class MpmcFields {
+    static final VarHandle SEQUENCE = MethodHandles.arrayElementVarHandle(long[].class);
+
+    final int[] buffer;      // Slot values (length is a power of two)
+    final long[] sequences;  // Per-slot sequence numbers that say whether a slot is free or full
+    final int mask;          // buffer.length - 1, used to wrap tickets into indices
+
+    MpmcFields(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Invalid capacity: " + capacity);
+        }
+        // Two slots minimum: with one slot "free" and "full" sequences would coincide.
+        int length = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+        this.buffer = new int[length];
+        this.sequences = new long[length];
+        for (int i = 0; i < length; i++) {
+            sequences[i] = i;
+        }
+        this.mask = length - 1;
+    }
+}
+
+abstract class MpmcPadBeforeTail extends MpmcFields {
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+    long p08, p09, p0a, p0b, p0c, p0d, p0e, p0f;
+
+    MpmcPadBeforeTail(int capacity) {
+        super(capacity);
+    }
+}
+
+abstract class MpmcTail extends MpmcPadBeforeTail {
+    volatile long tail; // Next producer ticket
+
+    MpmcTail(int capacity) {
+        super(capacity);
+    }
+}
+
+abstract class MpmcPadBeforeHead extends MpmcTail {
+    long p10, p11, p12, p13, p14, p15, p16, p17;
+    long p18, p19, p1a, p1b, p1c, p1d, p1e, p1f;
+
+    MpmcPadBeforeHead(int capacity) {
+        super(capacity);
+    }
+}
+
+abstract class MpmcHead extends MpmcPadBeforeHead {
+    static final VarHandle HEAD;
+    static final VarHandle TAIL;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(MpmcHead.class, "head", long.class);
+            TAIL = lookup.findVarHandle(MpmcTail.class, "tail", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    volatile long head; // Next consumer ticket
+
+    MpmcHead(int capacity) {
+        super(capacity);
+    }
+}
+
+abstract class MpmcPadAfterHead extends MpmcHead {
+    long p20, p21, p22, p23, p24, p25, p26, p27;
+    long p28, p29, p2a, p2b, p2c, p2d, p2e, p2f;
+
+    MpmcPadAfterHead(int capacity) {
+        super(capacity);
+    }
+}
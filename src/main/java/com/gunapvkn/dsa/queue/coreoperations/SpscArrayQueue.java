@@ -0,0 +1,263 @@
+package com.gunapvkn.dsa.queue.coreoperations;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * SpscArrayQueue is a bounded, lock-free FIFO queue for exactly one producer thread and one consumer thread.
+ * It exposes the same int-valued {@code enque}/{@code deque} contract as {@link ArrayQueue}, plus non-throwing
+ * {@code offer}/{@code poll} variants for hot loops.
+ *
+ * <p>The producer owns the tail sequence and the consumer owns the head sequence. Each side publishes its
+ * sequence with a release store and keeps a cached copy of the other side's sequence, so it only reads the
+ * shared cache line again when the cached value says the queue looks full (or empty). The two sequences are
+ * separated by padding so that they never share a cache line.
+ *
+ * <p>Calling {@code enque}/{@code offer} from more than one thread, or {@code deque}/{@code poll} from more than
+ * one thread, is not supported; use {@link MpmcArrayQueue} for that.
+ */
+public final class SpscArrayQueue extends SpscPadAfterHead {
+
+    /**
+     * Constructor to initialize the queue with a specified capacity.
+     * The capacity is rounded up to the next power of two.
+     * @param capacity The minimum number of elements the queue can hold.
+     * @throws IllegalArgumentException if capacity is not positive or too large.
+     */
+    public SpscArrayQueue(int capacity) {
+        super(capacity);
+    }
+
+    /**
+     * Returns the maximum number of elements the queue can hold.
+     * @return The capacity of the queue (a power of two).
+     */
+    public int capacity() {
+        return buffer.length;
+    }
+
+    /**
+     * Returns the current number of elements in the queue.
+     * The value is exact when called from the producer or consumer and a snapshot otherwise.
+     * @return The size of the queue.
+     */
+    public int size() {
+        // Read head first: the tail can only move forward in the meantime, so the difference never goes negative.
+        long head = (long) HEAD.getAcquire(this);
+        long tail = (long) TAIL.getAcquire(this);
+        return (int) Math.min(tail - head, buffer.length);
+    }
+
+    /**
+     * Checks if the queue is empty.
+     * @return true if the queue is empty; false otherwise.
+     */
+    public boolean isEmpty() {
+        return (long) HEAD.getAcquire(this) == (long) TAIL.getAcquire(this);
+    }
+
+    /**
+     * Adds an element to the rear of the queue if there is room. Producer thread only.
+     * @param value The element to add.
+     * @return true if the element was added; false if the queue is full.
+     */
+    public boolean offer(int value) {
+        long tail = this.tail; // only the producer writes tail, so a plain read is current
+        if (tail - headCache >= buffer.length) {
+            headCache = (long) HEAD.getAcquire(this);
+            if (tail - headCache >= buffer.length) {
+                return false;
+            }
+        }
+        buffer[(int) tail & mask] = value;
+        TAIL.setRelease(this, tail + 1); // publishes the slot write to the consumer
+        return true;
+    }
+
+    /**
+     * Adds an element to the rear of the queue. Producer thread only.
+     * @param value The element to add.
+     * @throws RuntimeException if the queue is full.
+     */
+    public void enque(int value) {
+        if (!offer(value)) {
+            throw new RuntimeException("Queue is full");
+        }
+    }
+
+    /**
+     * Removes and returns the front element of the queue, or a caller-chosen value if it is empty.
+     * Consumer thread only.
+     * @param valueIfEmpty The value to return when there is nothing to dequeue.
+     * @return The element removed from the front of the queue, or valueIfEmpty.
+     */
+    public int poll(int valueIfEmpty) {
+        long head = claimHead();
+        return head < 0 ? valueIfEmpty : take(head);
+    }
+
+    /**
+     * Removes and returns the front element of the queue. Consumer thread only.
+     * @return The element removed from the front of the queue.
+     * @throws RuntimeException if the queue is empty.
+     */
+    public int deque() {
+        long head = claimHead();
+        if (head < 0) {
+            throw new RuntimeException("Queue is empty");
+        }
+        return take(head);
+    }
+
+    /**
+     * Returns the index of the front element, or -1 if the queue is empty. Consumer thread only.
+     * Re-reads the producer's tail only when the cached copy says the queue is empty.
+     */
+    private long claimHead() {
+        long head = this.head; // only the consumer writes head, so a plain read is current
+        if (head >= tailCache) {
+            tailCache = (long) TAIL.getAcquire(this);
+            if (head >= tailCache) {
+                return -1;
+            }
+        }
+        return head;
+    }
+
+    /** Reads the element at a claimed head index and hands the slot back to the producer. */
+    private int take(long head) {
+        int element = buffer[(int) head & mask];
+        HEAD.setRelease(this, head + 1); // hands the slot back to the producer
+        return element;
+    }
+
+    /**
+     * Main method to test SpscArrayQueue operations.
+     * A producer thread enqueues a sequence of numbers while the main thread consumes them
+     * and checks that they arrive in order.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        SpscArrayQueue queue = new SpscArrayQueue(1000);
+        System.out.println("Test 1: Requested capacity 1000, actual capacity: " + queue.capacity());
+
+        // Test 2: Single-threaded enque/deque and the empty/full exceptions.
+        System.out.println("\nTest 2: Enqueuing 10, 20, 30 and dequeuing them");
+        queue.enque(10);
+        queue.enque(20);
+        queue.enque(30);
+        System.out.println("Size: " + queue.size());
+        System.out.println("Dequeued: " + queue.deque() + " " + queue.deque() + " " + queue.deque());
+        try {
+            queue.deque();
+        } catch (RuntimeException e) {
+            System.out.println("Caught exception: " + e.getMessage());
+        }
+
+        // Test 3: One producer thread and one consumer thread.
+        final int count = 1_000_000;
+        System.out.println("\nTest 3: Transferring " + count + " elements between two threads");
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < count; i++) {
+                while (!queue.offer(i)) {
+                    Thread.yield();
+                }
+            }
+        });
+        long start = System.nanoTime();
+        producer.start();
+        int expected = 0;
+        while (expected < count) {
+            int value = queue.poll(-1);
+            if (value == -1) {
+                Thread.yield();
+                continue;
+            }
+            if (value != expected) {
+                throw new IllegalStateException("Out of order: expected " + expected + " but got " + value);
+            }
+            expected++;
+        }
+        producer.join();
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        System.out.println("All elements received in order in " + millis + " ms; queue empty? " + queue.isEmpty());
+    }
+}
+
+// ─────────────────────────────────────── Field layout / padding ──────────────
+
+/**
+ * The classes below split the queue state across an inheritance chain. HotSpot lays out superclass fields
+ * before subclass fields, so the padding longs reliably sit between the producer-owned and consumer-owned
+ * fields and keep them on separate cache lines.
+ */
+abstract class SpscFields {
+    final int[] buffer; // Ring buffer storing queue elements (length is a power of two)
+    final int mask;     // buffer.length - 1, used to wrap sequences into indices
+
+    SpscFields(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Invalid capacity: " + capacity);
+        }
+        int length = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.buffer = new int[length];
+        this.mask = length - 1;
+    }
+}
+
+abstract class SpscPadBeforeTail extends SpscFields {
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+    long p08, p09, p0a, p0b, p0c, p0d, p0e, p0f;
+
+    SpscPadBeforeTail(int capacity) {
+        super(capacity);
+    }
+}
+
+abstract class SpscTail extends SpscPadBeforeTail {
+    volatile long tail; // Sequence of the next slot to write (producer-owned)
+    long headCache;     // Producer's last observed value of head
+
+    SpscTail(int capacity) {
+        super(capacity);
+    }
+}
+
+abstract class SpscPadBeforeHead extends SpscTail {
+    long p10, p11, p12, p13, p14, p15, p16, p17;
+    long p18, p19, p1a, p1b, p1c, p1d, p1e, p1f;
+
+    SpscPadBeforeHead(int capacity) {
+        super(capacity);
+    }
+}
+
+abstract class SpscHead extends SpscPadBeforeHead {
+    static final VarHandle HEAD;
+    static final VarHandle TAIL;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(SpscHead.class, "head", long.class);
+            TAIL = lookup.findVarHandle(SpscTail.class, "tail", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    volatile long head; // Sequence of the next slot to read (consumer-owned)
+    long tailCache;     // Consumer's last observed value of tail
+
+    SpscHead(int capacity) {
+        super(capacity);
+    }
+}
+
+abstract class SpscPadAfterHead extends SpscHead {
+    long p20, p21, p22, p23, p24, p25, p26, p27;
+    long p28, p29, p2a, p2b, p2c, p2d, p2e, p2f;
+
+    SpscPadAfterHead(int capacity) {
+        super(capacity);
+    }
+}
@@ -0,0 +1,186 @@
+package com.gunapvkn.dsa.queue.coreoperations;
+
+/**
+ * UnrolledLinkedListQueue is a FIFO (First In, First Out) queue built from a linked list of fixed-size
+ * int blocks instead of one node per element. It supports the same operations as {@link LinkedListQueue}.
+ *
+ * <p>Enque writes into the tail block and deque reads from the head block, each just advancing an index
+ * inside its block; a new block is linked in only when the tail block is full, and the head block is
+ * dropped once it has been read completely. Compared with one node per value this cuts the per-element
+ * memory overhead by roughly the block size and turns traversals into mostly sequential array scans.
+ */
+public class UnrolledLinkedListQueue {
+
+    public static final int DEFAULT_BLOCK_SIZE = 64; // Values per block (256 bytes of payload)
+
+    private Block head;           // Block holding the front of the queue
+    private Block tail;           // Block receiving new elements
+    private int size;             // Current number of elements in the queue
+    private final int blockSize;  // Capacity of every block
+
+    /**
+     * Inner static class representing one block of the list.
+     * Values in [readIndex, writeIndex) are live.
+     */
+    static class Block {
+        final int[] values; // Storage for up to blockSize values
+        int readIndex;      // Next value to deque (only advanced in the head block)
+        int writeIndex;     // Next free slot (only advanced in the tail block)
+        Block next;         // Reference to the next block in the list
+
+        /**
+         * Constructor to create an empty block.
+         * @param blockSize The number of values the block can hold.
+         */
+        Block(int blockSize) {
+            this.values = new int[blockSize];
+        }
+    }
+
+    /**
+     * Constructor to create an empty queue with the default block size.
+     */
+    public UnrolledLinkedListQueue() {
+        this(DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Constructor to create an empty queue.
+     * @param blockSize The number of values stored per block.
+     * @throws IllegalArgumentException if blockSize is not positive.
+     */
+    public UnrolledLinkedListQueue(int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Block size must be positive: " + blockSize);
+        }
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * Returns the number of elements currently in the queue.
+     * @return The size of the queue.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the queue is empty.
+     * @return true if the queue contains no elements, false otherwise.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Retrieves the element at the front of the queue without removing it.
+     * @return The value of the front element.
+     * @throws RuntimeException if the queue is empty.
+     */
+    public int getFront() {
+        if (isEmpty()) {
+            throw new RuntimeException("Queue is empty");
+        }
+        return head.values[head.readIndex];
+    }
+
+    /**
+     * Prints the elements of the queue from front to rear.
+     */
+    public void printQueue() {
+        for (Block block = head; block != null; block = block.next) {
+            for (int i = block.readIndex; i < block.writeIndex; i++) {
+                System.out.print(block.values[i] + " ");
+            }
+        }
+        System.out.println(); // New line for better readability
+    }
+
+    /**
+     * Adds an element to the rear of the queue.
+     * A new block is linked in only when the tail block is full.
+     * @param value The value to be added to the queue.
+     */
+    public void enque(int value) {
+        if (tail == null) {
+            head = tail = new Block(blockSize);
+        } else if (tail.writeIndex == blockSize) {
+            Block block = new Block(blockSize);
+            tail.next = block;
+            tail = block;
+        }
+        tail.values[tail.writeIndex++] = value;
+        size++; // Increase the size after adding an element
+    }
+
+    /**
+     * Removes and returns the element at the front of the queue.
+     * The head block is unlinked once all of its values have been dequeued.
+     * @return The value of the dequeued element.
+     * @throws RuntimeException if the queue is empty.
+     */
+    public int deque() {
+        if (isEmpty()) {
+            throw new RuntimeException("Queue is empty");
+        }
+        int element = head.values[head.readIndex++];
+        size--; // Decrement the size after removal
+
+        if (head.readIndex == head.writeIndex) {
+            if (head == tail) {
+                // Last block drained: rewind it instead of allocating a new one on the next enque.
+                head.readIndex = head.writeIndex = 0;
+            } else {
+                head = head.next; // Move the head to the next block
+            }
+        }
+        return element;
+    }
+
+    /**
+     * Main method to test the UnrolledLinkedListQueue operations.
+     * Uses a tiny block size so that enques and deques cross block boundaries.
+     */
+    public static void main(String[] args) {
+        UnrolledLinkedListQueue queue = new UnrolledLinkedListQueue(2);
+
+        // Test 1: Check initial state of the queue (should be empty).
+        System.out.println("Test 1: Is the queue empty? " + queue.isEmpty());
+
+        // Test 2: Enqueue several elements (spanning three blocks).
+        System.out.println("\nTest 2: Enqueuing elements: 10, 20, 30, 40, 50");
+        queue.enque(10);
+        queue.enque(20);
+        queue.enque(30);
+        queue.enque(40);
+        queue.enque(50);
+        System.out.println("Queue contents:");
+        queue.printQueue();
+
+        // Test 3: Front element and one dequeue.
+        System.out.println("\nTest 3: Front element: " + queue.getFront());
+        System.out.println("Dequeued element (expected 10): " + queue.deque());
+
+        // Test 4: Dequeue all remaining elements.
+        System.out.println("\nTest 4: Dequeuing all remaining elements:");
+        while (!queue.isEmpty()) {
+            System.out.println("Dequeued: " + queue.deque());
+        }
+
+        // Test 5: Attempt to dequeue from an empty queue.
+        System.out.println("\nTest 5: Attempting to dequeue from an empty queue:");
+        try {
+            queue.deque();
+        } catch (RuntimeException e) {
+            System.out.println("Caught exception: " + e.getMessage());
+        }
+
+        // Test 6: The queue is reusable after being drained.
+        System.out.println("\nTest 6: Enqueuing new elements: 60, 70, 80");
+        queue.enque(60);
+        queue.enque(70);
+        queue.enque(80);
+        System.out.println("Queue contents:");
+        queue.printQueue();
+    }
+}
@@ -0,0 +1,310 @@
+package com.gunapvkn.dsa.queue.coreoperations;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * WorkStealingDeque is a Chase-Lev work-stealing deque of int task ids: an unbounded, growable ring buffer with
+ * one owner thread and any number of thieves.
+ *
+ * <p>The owner works at the bottom like a stack ({@link #pushBottom}/{@link #popBottom}, LIFO, which keeps
+ * recently created tasks cache-hot) and never takes a lock or, except for the last element, runs a CAS. Thieves
+ * take from the top like a queue ({@link #steal}, FIFO, which hands out the oldest and usually largest tasks) and
+ * only compete with each other through a CAS on {@code top}.
+ *
+ * <p>The memory ordering follows Lê, Pop, Cohen and Zappa Nardelli, "Correct and Efficient Work-Stealing for Weak
+ * Memory Models" (PPoPP 2013), mapped onto {@link VarHandle} access modes. The owner publishes slots with a
+ * release store of {@code bottom}. {@code popBottom} and {@code steal} each place a full fence between their reads
+ * of {@code bottom} and {@code top}, so the two sides cannot both take the last element. When the buffer is full,
+ * the owner copies the live range into a buffer of twice the size and publishes it with a release store. Thieves
+ * still holding the old buffer read unchanged values from it, because the owner never writes to a buffer after
+ * replacing it.
+ *
+ * <p>Calling {@code pushBottom} or {@code popBottom} from any thread other than the owner is not supported.
+ */
+public final class WorkStealingDeque extends WsPadAfterTop {
+
+    /**
+     * Constructor to create an empty deque.
+     * @param initialCapacity The number of tasks the deque holds before it first grows; rounded up to a power of two.
+     * @throws IllegalArgumentException if initialCapacity is not positive or too large.
+     */
+    public WorkStealingDeque(int initialCapacity) {
+        super(initialCapacity);
+    }
+
+    /**
+     * Returns the current length of the circular buffer.
+     * @return The number of tasks the deque can hold before it grows again.
+     */
+    public int capacity() {
+        return ((int[]) BUFFER.getAcquire(this)).length;
+    }
+
+    /**
+     * Returns the number of tasks in the deque.
+     * The value is exact when called from the owner while no steal is in progress, and a snapshot otherwise.
+     * @return The size of the deque.
+     */
+    public int size() {
+        long top = (long) TOP.getAcquire(this);
+        long bottom = (long) BOTTOM.getAcquire(this);
+        return (int) Math.max(0, bottom - top);
+    }
+
+    /**
+     * Checks if the deque is empty.
+     * @return true if the deque holds no tasks; false otherwise (a snapshot when called by a thief).
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Pushes a task onto the bottom of the deque, doubling the buffer first if it is full. Owner thread only.
+     * @param task The task id to push.
+     * @throws RuntimeException if the deque already holds 2^30 tasks.
+     */
+    public void pushBottom(int task) {
+        long bottom = this.bottom; // only the owner writes bottom, so a plain read is current
+        long top = (long) TOP.getAcquire(this);
+        int[] buffer = this.buffer;
+        if (bottom - top >= buffer.length) {
+            buffer = grow(buffer, top, bottom);
+        }
+        buffer[(int) bottom & (buffer.length - 1)] = task;
+        BOTTOM.setRelease(this, bottom + 1); // publishes the slot write to thieves
+    }
+
+    /**
+     * Removes and returns the most recently pushed task, or a caller-chosen value if the deque is empty.
+     * Owner thread only.
+     * @param valueIfEmpty The value to return when there is nothing to pop (or a thief took the last task).
+     * @return The task at the bottom of the deque, or valueIfEmpty.
+     */
+    public int popBottom(int valueIfEmpty) {
+        long bottom = this.bottom - 1;
+        int[] buffer = this.buffer;
+        BOTTOM.setOpaque(this, bottom); // reserve the bottom slot before looking at top
+        VarHandle.fullFence();          // ... and make that reservation visible to thieves first
+        long top = this.top;
+        if (top > bottom) {
+            // Already empty: undo the reservation.
+            BOTTOM.setOpaque(this, bottom + 1);
+            return valueIfEmpty;
+        }
+        int task = buffer[(int) bottom & (buffer.length - 1)];
+        if (top == bottom) {
+            // Last task: race the thieves for it by advancing top ourselves.
+            boolean won = TOP.compareAndSet(this, top, top + 1);
+            BOTTOM.setOpaque(this, bottom + 1);
+            return won ? task : valueIfEmpty;
+        }
+        return task;
+    }
+
+    /**
+     * Removes and returns the oldest task, or a caller-chosen value if the deque is empty. Any thread may call
+     * this. If another thief takes the same task first, the call retries with the next one, so it only returns
+     * valueIfEmpty when there is nothing left to steal; the retry is lock-free, since a lost race means some other
+     * thread made progress.
+     * @param valueIfEmpty The value to return when there is nothing to steal.
+     * @return The task at the top of the deque, or valueIfEmpty.
+     */
+    public int steal(int valueIfEmpty) {
+        while (true) {
+            long top = (long) TOP.getAcquire(this);
+            VarHandle.fullFence(); // read top before bottom, pairing with the fence in popBottom
+            long bottom = (long) BOTTOM.getAcquire(this);
+            if (top >= bottom) {
+                return valueIfEmpty;
+            }
+            int[] buffer = (int[]) BUFFER.getAcquire(this);
+            int task = buffer[(int) top & (buffer.length - 1)];
+            if (TOP.compareAndSet(this, top, top + 1)) {
+                return task;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Copies the live range [top, bottom) into a buffer of twice the length and publishes it. Owner thread only.
+     * @return The new buffer.
+     */
+    private int[] grow(int[] buffer, long top, long bottom) {
+        if (buffer.length == MAX_CAPACITY) {
+            throw new RuntimeException("Deque is full");
+        }
+        int[] next = new int[buffer.length << 1];
+        for (long i = top; i < bottom; i++) {
+            next[(int) i & (next.length - 1)] = buffer[(int) i & (buffer.length - 1)];
+        }
+        BUFFER.setRelease(this, next);
+        return next;
+    }
+
+    /**
+     * Main method to test WorkStealingDeque operations.
+     * The owner pushes and pops task ids while three thieves steal from it, and every task must be
+     * taken exactly once.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        WorkStealingDeque deque = new WorkStealingDeque(4);
+
+        // Test 1: Owner-only use is LIFO, and the buffer grows as needed.
+        System.out.println("Test 1: Pushing 1..10 into a deque of initial capacity 4");
+        for (int task = 1; task <= 10; task++) {
+            deque.pushBottom(task);
+        }
+        System.out.println("Size: " + deque.size() + ", capacity: " + deque.capacity());
+        System.out.println("popBottom: " + deque.popBottom(-1) + ", steal: " + deque.steal(-1)); // 10, 1
+
+        // Test 2: Drain from both ends until empty.
+        System.out.println("\nTest 2: Draining from both ends:");
+        StringBuilder order = new StringBuilder();
+        while (!deque.isEmpty()) {
+            order.append(deque.popBottom(-1)).append(' ').append(deque.steal(-1)).append(' ');
+        }
+        System.out.println(order.toString().trim()); // 9 2 8 3 7 4 6 5
+        System.out.println("popBottom on empty: " + deque.popBottom(-1) + ", steal on empty: " + deque.steal(-1));
+
+        // Test 3: The owner works through a batch of tasks while thieves steal concurrently.
+        final int tasks = 1_000_000;
+        final int thieves = 3;
+        System.out.println("\nTest 3: One owner and " + thieves + " thieves sharing " + tasks + " tasks");
+        AtomicIntegerArray taken = new AtomicIntegerArray(tasks);
+        AtomicBoolean done = new AtomicBoolean();
+        int[] stolen = new int[thieves];
+        Thread[] threads = new Thread[thieves];
+        for (int t = 0; t < thieves; t++) {
+            final int thief = t;
+            threads[t] = new Thread(() -> {
+                // Keep stealing until the owner has pushed everything and drained the rest itself.
+                while (!done.get()) {
+                    int task = deque.steal(-1);
+                    if (task == -1) {
+                        Thread.onSpinWait();
+                        continue;
+                    }
+                    taken.incrementAndGet(task);
+                    stolen[thief]++;
+                }
+            });
+            threads[t].start();
+        }
+        long start = System.nanoTime();
+        int popped = 0;
+        for (int task = 0; task < tasks; task++) {
+            deque.pushBottom(task);
+            if ((task & 3) == 0) { // pop every fourth push so the deque size keeps changing
+                int own = deque.popBottom(-1);
+                if (own != -1) {
+                    taken.incrementAndGet(own);
+                    popped++;
+                }
+            }
+        }
+        for (int own = deque.popBottom(-1); own != -1; own = deque.popBottom(-1)) {
+            taken.incrementAndGet(own);
+            popped++;
+        }
+        done.set(true);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        int stolenTotal = 0;
+        for (int count : stolen) {
+            stolenTotal += count;
+        }
+        for (int task = 0; task < tasks; task++) {
+            if (taken.get(task) != 1) {
+                throw new IllegalStateException("Task " + task + " was taken " + taken.get(task) + " times");
+            }
+        }
+        System.out.println("Every task taken exactly once in " + millis + " ms: owner popped " + popped
+                + ", thieves stole " + stolenTotal);
+    }
+}
+
+// ─────────────────────────────────────── Field layout / padding ──────────────
+
+/**
+ * The classes below split the deque state across an inheritance chain, as in {@link SpscArrayQueue}: the
+ * owner-written {@code bottom} and the thief-written {@code top} sit on separate cache lines, so pushes and pops
+ * do not keep invalidating the line that thieves CAS on.
+ */
+abstract class WsFields {
+    static final int MAX_CAPACITY = 1 << 30; // Largest buffer length the deque will allocate
+
+    volatile int[] buffer; // Circular buffer of tasks (length is a power of two); replaced when it grows
+
+    WsFields(int initialCapacity) {
+        if (initialCapacity < 1 || initialCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Invalid capacity: " + initialCapacity);
+        }
+        int length = initialCapacity == 1 ? 1 : Integer.highestOneBit(initialCapacity - 1) << 1;
+        this.buffer = new int[length];
+    }
+}
+
+abstract class WsPadBeforeBottom extends WsFields {
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+    long p08, p09, p0a, p0b, p0c, p0d, p0e, p0f;
+
+    WsPadBeforeBottom(int initialCapacity) {
+        super(initialCapacity);
+    }
+}
+
+abstract class WsBottom extends WsPadBeforeBottom {
+    volatile long bottom; // Index of the next slot the owner pushes to (owner-written)
+
+    WsBottom(int initialCapacity) {
+        super(initialCapacity);
+    }
+}
+
+abstract class WsPadBeforeTop extends WsBottom {
+    long p10, p11, p12, p13, p14, p15, p16, p17;
+    long p18, p19, p1a, p1b, p1c, p1d, p1e, p1f;
+
+    WsPadBeforeTop(int initialCapacity) {
+        super(initialCapacity);
+    }
+}
+
+abstract class WsTop extends WsPadBeforeTop {
+    static final VarHandle TOP;
+    static final VarHandle BOTTOM;
+    static final VarHandle BUFFER;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            TOP = lookup.findVarHandle(WsTop.class, "top", long.class);
+            BOTTOM = lookup.findVarHandle(WsBottom.class, "bottom", long.class);
+            BUFFER = lookup.findVarHandle(WsFields.class, "buffer", int[].class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    volatile long top; // Index of the oldest task; advanced by CAS from thieves and, for the last task, the owner
+
+    WsTop(int initialCapacity) {
+        super(initialCapacity);
+    }
+}
+
+abstract class WsPadAfterTop extends WsTop {
+    long p20, p21, p22, p23, p24, p25, p26, p27;
+    long p28, p29, p2a, p2b, p2c, p2d, p2e, p2f;
+
+    WsPadAfterTop(int initialCapacity) {
+        super(initialCapacity);
+    }
+}
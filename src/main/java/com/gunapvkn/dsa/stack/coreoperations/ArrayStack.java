@@ -1,5 +1,10 @@
 package com.gunapvkn.dsa.stack.coreoperations;
 
+import com.gunapvkn.dsa.io.IntArraySnapshot;
+import com.gunapvkn.dsa.stats.OperationStats;
+
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Arrays;
 
 /**
@@ -17,6 +22,9 @@ public class ArrayStack {
     /** Maximum number of elements the stack can hold */
     private final int capacity;
 
+    /** Operation counters; {@link OperationStats#DISABLED} unless run with -Ddsa.stats=true */
+    private final OperationStats stats = OperationStats.forInstance(this);
+
     /**
      * Creates a new stack with the given capacity.
      *
@@ -28,6 +36,13 @@ public class ArrayStack {
         this.capacity = capacity;
     }
 
+    /** Wraps a restored backing array whose first {@code size} slots hold the elements. */
+    private ArrayStack(int[] arr, int size) {
+        this.arr = arr;
+        this.top = size - 1;
+        this.capacity = arr.length;
+    }
+
     /** @return the number of elements currently in the stack */
     public int size() {
         return top + 1;
@@ -38,6 +53,11 @@ public class ArrayStack {
         return top == -1;
     }
 
+    /** @return this stack's operation counters, including the high-water mark as {@code peakSize()} */
+    public OperationStats stats() {
+        return stats;
+    }
+
     /**
      * Pushes a value onto the stack.
      * If the stack is full, prints a warning and does nothing.
@@ -45,11 +65,18 @@ public class ArrayStack {
      * @param value value to push
      */
     public void push(int value) {
+        var start = OperationStats.start();
         if (size() == capacity) {
             System.out.println("Stack is full (overflow)");
+            if (OperationStats.ENABLED) {
+                stats.rejected("push", start, size());
+            }
             return;
         }
         arr[++top] = value;
+        if (OperationStats.ENABLED) {
+            stats.completed("push", start, 0, size());
+        }
     }
 
     /**
@@ -58,10 +85,18 @@ public class ArrayStack {
      * @throws RuntimeException if the stack is empty (underflow)
      */
     public int pop() {
+        var start = OperationStats.start();
         if (isEmpty()) {
+            if (OperationStats.ENABLED) {
+                stats.rejected("pop", start, 0);
+            }
             throw new RuntimeException("Stack is empty (underflow)");
         }
-        return arr[top--];
+        var value = arr[top--];
+        if (OperationStats.ENABLED) {
+            stats.completed("pop", start, 0, size());
+        }
+        return value;
     }
 
     /**
@@ -86,8 +121,32 @@ public class ArrayStack {
         System.out.println();
     }
 
+    /**
+     * Saves the elements (bottom to top) and the capacity to a binary snapshot file.
+     * Only the live part of the backing array is written, as one bulk transfer.
+     *
+     * @param path file to write; an existing file is replaced atomically
+     * @throws IOException if the file cannot be written
+     * @see IntArraySnapshot
+     */
+    public void snapshotTo(Path path) throws IOException {
+        IntArraySnapshot.write(path, arr, top + 1, capacity, 0);
+    }
+
+    /**
+     * Creates a stack from a file written by {@link #snapshotTo(Path)}.
+     *
+     * @param path snapshot file to read
+     * @return a stack with the saved capacity and elements
+     * @throws IOException if the file cannot be read or is not a valid snapshot
+     */
+    public static ArrayStack restoreFrom(Path path) throws IOException {
+        var contents = IntArraySnapshot.read(path);
+        return new ArrayStack(contents.arr(), contents.length());
+    }
+
     /** Quick demo / sanity test for all operations */
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
         ArrayStack stack = new ArrayStack(3);
 
         System.out.println("Initially empty? " + stack.isEmpty()); // true
@@ -118,5 +177,19 @@ public class ArrayStack {
         }
 
         System.out.println("Empty after pops? " + stack.isEmpty()); // true
+
+        // Snapshot a stack to disk and restore it
+        stack.push(1);
+        stack.push(2);
+        var file = Path.of(System.getProperty("java.io.tmpdir"), "array-stack.snapshot");
+        stack.snapshotTo(file);
+        var restored = ArrayStack.restoreFrom(file);
+        System.out.print("Restored from snapshot: ");
+        restored.printStack(); // 1 2
+        restored.push(3);      // capacity 3 was restored as well
+        System.out.println("Restored peek: " + restored.peek()); // 3
+
+        // Counters (filled in only when run with -Ddsa.stats=true)
+        System.out.println("Stats: " + stack.stats());
     }
 }
@@ -0,0 +1,272 @@
+package com.gunapvkn.dsa.stack.coreoperations;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+/**
+ * A growable int stack whose elements live off-heap in direct {@link ByteBuffer} chunks.
+ * Supports the same push, pop, peek, size, isEmpty and print operations as {@link ArrayStack}.
+ *
+ * <p>Unlike {@link ArrayStack} it never rejects a push: when the last chunk is full a new one is
+ * allocated, so the stack can hold more than 2^31 elements and {@link #size()} is a {@code long}.
+ * The GC only sees a handful of small buffer objects no matter how deep the stack gets, and the
+ * native memory is returned explicitly by {@link #close()} instead of waiting for a collection.
+ * Direct buffers count against {@code -XX:MaxDirectMemorySize}, which defaults to the maximum heap size.
+ *
+ * <p>When the stack shrinks, one empty chunk is kept as a spare so that a push/pop sequence that
+ * oscillates around a chunk boundary does not allocate and free memory on every call.
+ */
+public class OffHeapIntStack implements AutoCloseable {
+
+    /** Default chunk size: 2^20 ints (4 MiB) per chunk. */
+    public static final int DEFAULT_CHUNK_SHIFT = 20;
+
+    /** Direct buffers that own the native memory, one per chunk. */
+    private ByteBuffer[] buffers;
+
+    /** Int views over {@link #buffers}, used for reads and writes. */
+    private IntBuffer[] chunks;
+
+    /** Number of allocated chunks (the arrays above may be longer). */
+    private int chunkCount;
+
+    /** log2 of the number of ints per chunk */
+    private final int chunkShift;
+
+    /** Ints per chunk minus one, used to get the offset inside a chunk */
+    private final long chunkMask;
+
+    /** Number of elements in the stack; the top element sits at index size - 1 */
+    private long size;
+
+    /** Set by {@link #close()}; every later operation fails */
+    private boolean closed;
+
+    /** Creates an empty stack with 4 MiB chunks. */
+    public OffHeapIntStack() {
+        this(DEFAULT_CHUNK_SHIFT);
+    }
+
+    /**
+     * Creates an empty stack whose chunks hold {@code 2^chunkShift} ints each.
+     * No memory is allocated until the first push.
+     *
+     * @param chunkShift log2 of the chunk size in ints, between 4 and 28
+     * @throws IllegalArgumentException if chunkShift is out of range
+     */
+    public OffHeapIntStack(int chunkShift) {
+        if (chunkShift < 4 || chunkShift > 28) {
+            throw new IllegalArgumentException("chunkShift must be between 4 and 28: " + chunkShift);
+        }
+        this.chunkShift = chunkShift;
+        this.chunkMask = (1L << chunkShift) - 1;
+        this.buffers = new ByteBuffer[8];
+        this.chunks = new IntBuffer[8];
+    }
+
+    /** @return the number of elements currently in the stack */
+    public long size() {
+        return size;
+    }
+
+    /** @return {@code true} if the stack has no elements */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** @return the number of bytes of native memory currently held by the stack */
+    public long allocatedBytes() {
+        return (long) chunkCount << (chunkShift + 2);
+    }
+
+    /**
+     * Pushes a value onto the stack, allocating a new chunk if the current one is full.
+     *
+     * @param value value to push
+     * @throws IllegalStateException if the stack has been closed
+     */
+    public void push(int value) {
+        ensureOpen();
+        var chunk = (int) (size >>> chunkShift);
+        if (chunk == chunkCount) {
+            addChunk();
+        }
+        chunks[chunk].put((int) (size & chunkMask), value);
+        size++;
+    }
+
+    /**
+     * Removes and returns the top value.
+     *
+     * @throws RuntimeException if the stack is empty (underflow)
+     */
+    public int pop() {
+        ensureOpen();
+        if (isEmpty()) {
+            throw new RuntimeException("Stack is empty (underflow)");
+        }
+        size--;
+        var value = chunks[(int) (size >>> chunkShift)].get((int) (size & chunkMask));
+        // Keep at most one empty chunk above the top as a spare.
+        var chunksInUse = (int) ((size + chunkMask) >>> chunkShift);
+        if (chunkCount > chunksInUse + 1) {
+            releaseChunk();
+        }
+        return value;
+    }
+
+    /**
+     * Returns (but does not remove) the top value.
+     *
+     * @throws RuntimeException if the stack is empty
+     */
+    public int peek() {
+        ensureOpen();
+        if (isEmpty()) {
+            throw new RuntimeException("Stack is empty");
+        }
+        var index = size - 1;
+        return chunks[(int) (index >>> chunkShift)].get((int) (index & chunkMask));
+    }
+
+    /** Prints the current stack contents from bottom to top. */
+    public void printStack() {
+        ensureOpen();
+        if (isEmpty()) {
+            System.out.println("Stack is empty");
+            return;
+        }
+        for (long i = 0; i < size; i++) {
+            System.out.print(chunks[(int) (i >>> chunkShift)].get((int) (i & chunkMask)) + " ");
+        }
+        System.out.println();
+    }
+
+    /**
+     * Frees all native memory held by the stack. The stack cannot be used afterwards.
+     * Calling close more than once has no effect.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        while (chunkCount > 0) {
+            releaseChunk();
+        }
+        buffers = null;
+        chunks = null;
+        size = 0;
+        closed = true;
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Stack is closed");
+        }
+    }
+
+    private void addChunk() {
+        if (chunkCount == chunks.length) {
+            buffers = Arrays.copyOf(buffers, chunkCount * 2);
+            chunks = Arrays.copyOf(chunks, chunkCount * 2);
+        }
+        var buffer = ByteBuffer.allocateDirect(1 << (chunkShift + 2)).order(ByteOrder.nativeOrder());
+        buffers[chunkCount] = buffer;
+        chunks[chunkCount] = buffer.asIntBuffer();
+        chunkCount++;
+    }
+
+    private void releaseChunk() {
+        chunkCount--;
+        var buffer = buffers[chunkCount];
+        buffers[chunkCount] = null;
+        chunks[chunkCount] = null;
+        NativeMemory.free(buffer);
+    }
+
+    /**
+     * Releases a direct buffer's memory immediately through {@code sun.misc.Unsafe#invokeCleaner}.
+     * If that method is not accessible the buffer is simply dropped and the GC frees it later.
+     */
+    private static final class NativeMemory {
+        private static final Object UNSAFE;
+        private static final Method INVOKE_CLEANER;
+
+        static {
+            Object unsafe = null;
+            Method invokeCleaner = null;
+            try {
+                var unsafeClass = Class.forName("sun.misc.Unsafe");
+                Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+                theUnsafe.setAccessible(true);
+                unsafe = theUnsafe.get(null);
+                invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                unsafe = null;
+                invokeCleaner = null;
+            }
+            UNSAFE = unsafe;
+            INVOKE_CLEANER = invokeCleaner;
+        }
+
+        static void free(ByteBuffer buffer) {
+            if (INVOKE_CLEANER == null) {
+                return;
+            }
+            try {
+                INVOKE_CLEANER.invoke(UNSAFE, buffer);
+            } catch (ReflectiveOperationException e) {
+                // Leave it to the GC.
+            }
+        }
+    }
+
+    /** Quick demo / sanity test for all operations */
+    public static void main(String[] args) {
+        try (var stack = new OffHeapIntStack(4)) { // 16 ints per chunk to make growth visible
+            System.out.println("Initially empty? " + stack.isEmpty()); // true
+
+            stack.push(10);
+            stack.push(20);
+            stack.push(30);
+            System.out.print("After 3 pushes: ");
+            stack.printStack(); // 10 20 30
+
+            System.out.println("Peek: " + stack.peek()); // 30
+            System.out.println("Pop: " + stack.pop());   // 30
+
+            // No overflow: pushing past a chunk just allocates another one.
+            for (var i = 0; i < 100; i++) {
+                stack.push(i);
+            }
+            System.out.println("Size after 100 more pushes: " + stack.size()
+                    + ", native bytes: " + stack.allocatedBytes()); // 102, 448
+
+            while (!stack.isEmpty()) {
+                stack.pop();
+            }
+            System.out.println("Native bytes after popping everything: " + stack.allocatedBytes()); // 64 (one spare chunk)
+
+            try {
+                stack.pop();
+            } catch (RuntimeException e) {
+                System.out.println(e.getMessage()); // underflow message
+            }
+        }
+
+        // A deep stack with the default 4 MiB chunks.
+        var deep = new OffHeapIntStack();
+        for (var i = 0; i < 50_000_000; i++) {
+            deep.push(i);
+        }
+        System.out.println("Deep stack size: " + deep.size() + ", top: " + deep.peek()
+                + ", native MiB: " + (deep.allocatedBytes() >> 20));
+        deep.close();
+        System.out.println("Closed; native bytes: " + deep.allocatedBytes()); // 0
+    }
+}
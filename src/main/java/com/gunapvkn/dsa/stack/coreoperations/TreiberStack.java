@@ -0,0 +1,237 @@
+package com.gunapvkn.dsa.stack.coreoperations;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock‑free, unbounded int stack that many threads can use concurrently.
+ * Supports the same push, pop, peek, size and isEmpty operations as {@link ArrayStack}.
+ *
+ * <p>The stack is a Treiber stack: a linked list whose top reference is updated with CAS.
+ * On its own that single reference becomes the bottleneck once many cores hammer it, so a
+ * thread whose CAS fails backs off into an <em>elimination array</em> instead of retrying
+ * immediately. A pusher parks its node in a random slot for a short while; a popper that
+ * visits the same slot takes the node directly. The pair cancels out – the stack looks the
+ * same as if the push and the pop had happened back to back – without either thread
+ * touching the shared top. Under low contention the array is never used.
+ */
+public class TreiberStack {
+
+    private static final VarHandle TOP;
+
+    static {
+        try {
+            TOP = MethodHandles.lookup().findVarHandle(TreiberStack.class, "top", Node.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /** How long a pusher waits in the elimination array for a partner (spin iterations). */
+    private static final int ELIMINATION_SPINS = 128;
+
+    /** Current top node; null means the stack is empty */
+    private volatile Node top;
+
+    /** Slots where a pusher offers its node to a concurrent popper */
+    private final AtomicReferenceArray<Node> elimination;
+
+    /** Element count, striped so that it does not become a second hotspot */
+    private final LongAdder count = new LongAdder();
+
+    /** Number of push/pop pairs that met in the elimination array (for diagnostics), striped like count */
+    private final LongAdder eliminated = new LongAdder();
+
+    /** Creates a stack with one elimination slot per available processor (at most 64). */
+    public TreiberStack() {
+        this(Math.min(64, Runtime.getRuntime().availableProcessors()));
+    }
+
+    /**
+     * Creates a stack with the given number of elimination slots.
+     *
+     * @param eliminationSlots number of slots; more slots mean fewer collisions between pairs
+     *                         but lower odds that a pusher and popper meet
+     * @throws IllegalArgumentException if eliminationSlots is not positive
+     */
+    public TreiberStack(int eliminationSlots) {
+        if (eliminationSlots < 1) {
+            throw new IllegalArgumentException("eliminationSlots must be positive: " + eliminationSlots);
+        }
+        this.elimination = new AtomicReferenceArray<>(eliminationSlots);
+    }
+
+    /**
+     * @return a snapshot of the number of elements; under concurrent updates it may be
+     *         momentarily off by the number of in‑flight operations
+     */
+    public int size() {
+        return (int) Math.max(0, count.sum());
+    }
+
+    /** @return {@code true} if the stack had no elements at the time of the call */
+    public boolean isEmpty() {
+        return top == null;
+    }
+
+    /** @return how many push/pop pairs were satisfied by elimination instead of the top CAS */
+    public long eliminatedPairs() {
+        return eliminated.sum();
+    }
+
+    /**
+     * Pushes a value onto the stack. Never blocks and never fails.
+     *
+     * @param value value to push
+     */
+    public void push(int value) {
+        var node = new Node(value);
+        while (true) {
+            var current = top;
+            node.next = current;
+            if (TOP.compareAndSet(this, current, node)) {
+                count.increment();
+                return;
+            }
+            // Contention on top: try to hand the node straight to a popper.
+            if (offerForElimination(node)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the top value.
+     *
+     * @throws RuntimeException if the stack is empty (underflow)
+     */
+    public int pop() {
+        while (true) {
+            var current = top;
+            if (current == null) {
+                throw new RuntimeException("Stack is empty (underflow)");
+            }
+            if (TOP.compareAndSet(this, current, current.next)) {
+                count.decrement();
+                return current.value;
+            }
+            // Contention on top: look for a pusher waiting in the elimination array.
+            var slot = ThreadLocalRandom.current().nextInt(elimination.length());
+            var offered = elimination.get(slot);
+            if (offered != null && elimination.compareAndSet(slot, offered, null)) {
+                eliminated.increment();
+                return offered.value;
+            }
+        }
+    }
+
+    /**
+     * Returns (but does not remove) the top value.
+     *
+     * @throws RuntimeException if the stack is empty
+     */
+    public int peek() {
+        var current = top;
+        if (current == null) {
+            throw new RuntimeException("Stack is empty");
+        }
+        return current.value;
+    }
+
+    /** Prints the current stack contents from top to bottom (a weakly consistent snapshot). */
+    public void printStack() {
+        var current = top;
+        if (current == null) {
+            System.out.println("Stack is empty");
+            return;
+        }
+        while (current != null) {
+            System.out.print(current.value + " ");
+            current = current.next;
+        }
+        System.out.println();
+    }
+
+    /**
+     * Parks the node in a random empty slot and waits briefly for a popper to take it.
+     *
+     * @return {@code true} if a popper took the node (the push is complete),
+     *         {@code false} if nobody came and the caller should retry on top
+     */
+    private boolean offerForElimination(Node node) {
+        var slot = ThreadLocalRandom.current().nextInt(elimination.length());
+        if (!elimination.compareAndSet(slot, null, node)) {
+            return false; // slot busy with another pusher's offer
+        }
+        for (var i = 0; i < ELIMINATION_SPINS; i++) {
+            if (elimination.get(slot) != node) {
+                return true; // a popper swapped it out
+            }
+            Thread.onSpinWait();
+        }
+        // Withdraw the offer; if that fails a popper took it at the last moment.
+        return !elimination.compareAndSet(slot, node, null);
+    }
+
+    /** Immutable once published except for {@code next}, which is only written before the CAS. */
+    private static final class Node {
+        final int value;
+        Node next;
+
+        Node(int value) {
+            this.value = value;
+        }
+    }
+
+    /** Quick demo / sanity test for all operations */
+    public static void main(String[] args) throws InterruptedException {
+        var stack = new TreiberStack();
+
+        System.out.println("Initially empty? " + stack.isEmpty()); // true
+
+        stack.push(10);
+        stack.push(20);
+        stack.push(30);
+        System.out.print("After 3 pushes (top first): ");
+        stack.printStack(); // 30 20 10
+
+        System.out.println("Peek: " + stack.peek()); // 30
+        System.out.println("Pop: " + stack.pop());   // 30
+        System.out.println("Pop: " + stack.pop());   // 20
+        System.out.println("Pop: " + stack.pop());   // 10
+
+        try {
+            stack.pop();
+        } catch (RuntimeException e) {
+            System.out.println(e.getMessage()); // underflow message
+        }
+
+        // Several threads each push and pop the same number of values.
+        final int threads = 4, perThread = 500_000;
+        var workers = new Thread[threads];
+        var popped = new AtomicLong();
+        for (var t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                long sum = 0;
+                for (var i = 1; i <= perThread; i++) {
+                    stack.push(i);
+                    sum += stack.pop(); // never underflows: this thread pushed first
+                }
+                popped.addAndGet(sum);
+            });
+        }
+        for (var worker : workers) {
+            worker.start();
+        }
+        for (var worker : workers) {
+            worker.join();
+        }
+        long expected = threads * ((long) perThread * (perThread + 1) / 2);
+        System.out.println("Concurrent sum matches? " + (popped.get() == expected)
+                + ", size = " + stack.size() + ", eliminated pairs = " + stack.eliminatedPairs());
+    }
+}
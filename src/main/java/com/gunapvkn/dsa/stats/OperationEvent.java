@@ -0,0 +1,49 @@
+package com.gunapvkn.dsa.stats;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JDK Flight Recorder event for one notable operation on an instrumented data structure: an operation that
+ * moved at least {@link OperationStats#EVENT_MIN_MOVED} elements, or one that was rejected because the
+ * structure was full, empty or given an invalid index.
+ *
+ * <p>Only emitted when instrumentation is on ({@code -Ddsa.stats=true}) and the event is enabled in the
+ * recording. Grouping by {@code structure} and {@code instance} in JDK Mission Control shows which instances
+ * degenerate into O(n) shifting.
+ */
+@Name("com.gunapvkn.dsa.Operation")
+@Label("Data Structure Operation")
+@Category({"DSA Playground", "Data Structures"})
+@Description("An operation that moved many elements or was rejected")
+@StackTrace(true)
+final class OperationEvent extends jdk.jfr.Event {
+
+    @Label("Structure")
+    String structure;
+
+    @Label("Instance")
+    @Description("Identity hash code of the instance")
+    int instance;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Elements Moved")
+    long elementsMoved;
+
+    @Label("Size")
+    @Description("Number of elements after the operation")
+    long size;
+
+    @Label("Rejected")
+    boolean rejected;
+
+    @Label("Latency")
+    @Timespan(Timespan.NANOSECONDS)
+    long latency;
+}
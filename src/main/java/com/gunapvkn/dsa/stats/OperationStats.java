@@ -0,0 +1,172 @@
+package com.gunapvkn.dsa.stats;
+
+import java.util.Arrays;
+
+/**
+ * Opt-in operation counters for one data structure instance: number of operations, elements moved,
+ * rejections, peak size and a latency histogram. Notable operations are also reported as
+ * {@link OperationEvent JFR events}.
+ *
+ * <p>Instrumentation is switched on for the whole JVM with {@code -Ddsa.stats=true}. Instrumented classes
+ * guard every recording call with {@code if (OperationStats.ENABLED)}. Since {@link #ENABLED} is a
+ * {@code static final} constant, the JIT removes those branches, the {@code System.nanoTime()} calls and the
+ * argument computations entirely when it is off. Each instance then refers to a shared, always-empty
+ * {@link #DISABLED} object, so disabled instrumentation costs one reference field per instance.
+ *
+ * <p>Typical call site:
+ * <pre>
+ *   var start = OperationStats.start();
+ *   ... do the work, moving {@code moved} elements ...
+ *   if (OperationStats.ENABLED) {
+ *       stats.completed("insertAtIndex", start, moved, size);
+ *   }
+ * </pre>
+ * Recording is not thread-safe; it is meant for the single-threaded structures that call it.
+ */
+public final class OperationStats {
+
+    /** true if instrumentation is on ({@code -Ddsa.stats=true}); read once at class load. */
+    public static final boolean ENABLED = Boolean.getBoolean("dsa.stats");
+
+    /**
+     * Operations that move at least this many elements are emitted as JFR events
+     * ({@code -Ddsa.stats.eventMinMoved}, default 1024). Rejections are always emitted.
+     */
+    public static final long EVENT_MIN_MOVED = Long.getLong("dsa.stats.eventMinMoved", 1024);
+
+    /** Number of latency buckets; bucket {@code b} counts operations that took [2^b, 2^(b+1)) ns. */
+    public static final int HISTOGRAM_BUCKETS = 40;
+
+    /** The shared instance handed out while instrumentation is off; it never records anything. */
+    public static final OperationStats DISABLED = new OperationStats("disabled", 0);
+
+    private final String structure;     // Class name shown in events and toString()
+    private final int instance;         // Identity hash code of the owning instance
+    private long operations;            // Completed operations
+    private long elementsMoved;         // Elements copied or shifted by those operations
+    private long rejections;            // Operations refused because of full, empty or invalid input
+    private long peakSize;              // Highest size seen after any operation
+    private final long[] latencyHistogram = new long[HISTOGRAM_BUCKETS];
+
+    private OperationStats(String structure, int instance) {
+        this.structure = structure;
+        this.instance = instance;
+    }
+
+    /**
+     * Returns a fresh stats object for an instance, or {@link #DISABLED} when instrumentation is off.
+     * @param owner the instance being instrumented.
+     * @return the stats object the instance should record into.
+     */
+    public static OperationStats forInstance(Object owner) {
+        if (!ENABLED) {
+            return DISABLED;
+        }
+        return new OperationStats(owner.getClass().getSimpleName(), System.identityHashCode(owner));
+    }
+
+    /** @return System.nanoTime() when instrumentation is on, 0 otherwise. */
+    public static long start() {
+        return ENABLED ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Records a completed operation.
+     * @param operation the method name.
+     * @param start the value returned by {@link #start()} when the operation began.
+     * @param moved the number of elements copied or shifted.
+     * @param size the number of elements after the operation.
+     */
+    public void completed(String operation, long start, long moved, long size) {
+        var latency = record(start, size);
+        operations++;
+        elementsMoved += moved;
+        if (moved >= EVENT_MIN_MOVED) {
+            emit(operation, latency, moved, size, false);
+        }
+    }
+
+    /**
+     * Records a rejected operation (full, empty or invalid index).
+     * @param operation the method name.
+     * @param start the value returned by {@link #start()} when the operation began.
+     * @param size the number of elements, unchanged by the rejected operation.
+     */
+    public void rejected(String operation, long start, long size) {
+        var latency = record(start, size);
+        rejections++;
+        emit(operation, latency, 0, size, true);
+    }
+
+    private long record(long start, long size) {
+        var latency = System.nanoTime() - start;
+        latencyHistogram[Math.min(HISTOGRAM_BUCKETS - 1, 63 - Long.numberOfLeadingZeros(Math.max(1, latency)))]++;
+        peakSize = Math.max(peakSize, size);
+        return latency;
+    }
+
+    private void emit(String operation, long latency, long moved, long size, boolean rejected) {
+        var event = new OperationEvent();
+        if (event.shouldCommit()) {
+            event.structure = structure;
+            event.instance = instance;
+            event.operation = operation;
+            event.elementsMoved = moved;
+            event.size = size;
+            event.rejected = rejected;
+            event.latency = latency;
+            event.commit();
+        }
+    }
+
+    /** @return the number of completed operations (rejections not included). */
+    public long operations() {
+        return operations;
+    }
+
+    /** @return the total number of elements copied or shifted by completed operations. */
+    public long elementsMoved() {
+        return elementsMoved;
+    }
+
+    /** @return the number of rejected operations. */
+    public long rejections() {
+        return rejections;
+    }
+
+    /** @return the highest number of elements the instance held after any recorded operation. */
+    public long peakSize() {
+        return peakSize;
+    }
+
+    /** @return elements moved per completed operation; values that grow with the size indicate O(n) behaviour. */
+    public double movedPerOperation() {
+        return operations == 0 ? 0 : (double) elementsMoved / operations;
+    }
+
+    /** @return a copy of the latency histogram; bucket {@code b} covers [2^b, 2^(b+1)) nanoseconds. */
+    public long[] latencyHistogram() {
+        return latencyHistogram.clone();
+    }
+
+    /** Clears all counters. Has no effect on {@link #DISABLED}, which never holds any. */
+    public void reset() {
+        operations = elementsMoved = rejections = peakSize = 0;
+        Arrays.fill(latencyHistogram, 0);
+    }
+
+    @Override
+    public String toString() {
+        if (this == DISABLED) {
+            return "OperationStats[disabled; run with -Ddsa.stats=true]";
+        }
+        var histogram = new StringBuilder();
+        for (var bucket = 0; bucket < HISTOGRAM_BUCKETS; bucket++) {
+            if (latencyHistogram[bucket] != 0) {
+                histogram.append(' ').append(1L << bucket).append("ns:").append(latencyHistogram[bucket]);
+            }
+        }
+        return structure + "@" + Integer.toHexString(instance) + " ops=" + operations + " moved=" + elementsMoved
+                + " rejections=" + rejections + " peakSize=" + peakSize + " latency{" + histogram + " }";
+    }
+}